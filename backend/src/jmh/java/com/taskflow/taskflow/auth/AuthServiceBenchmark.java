@@ -0,0 +1,30 @@
+package com.taskflow.taskflow.auth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    // Same shape as an issued refresh token: 32 random bytes, base64url without padding.
+    private final String refreshToken = "q3Jx0b9Vt1nYwz8mK4cLrP2eHsGfD6aU7oTiNvEjBQk";
+
+    @Benchmark
+    public String hashToken() {
+        return AuthService.hashToken(refreshToken);
+    }
+}
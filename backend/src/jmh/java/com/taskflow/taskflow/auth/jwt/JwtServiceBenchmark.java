@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.auth.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private final UUID userId = UUID.fromString("018f3a52-7c4e-7b10-9a3e-5d2f1c0b9a87");
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService("benchmark-secret-benchmark-secret-benchmark-secret-0123456789", 15);
+        jwtService.init();
+        token = jwtService.generateToken(userId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userId);
+    }
+
+    @Benchmark
+    public UUID parseUserId() {
+        return jwtService.parseUserId(token);
+    }
+}
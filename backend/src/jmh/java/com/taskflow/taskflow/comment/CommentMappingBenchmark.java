@@ -0,0 +1,42 @@
+package com.taskflow.taskflow.comment;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskflow.taskflow.comment.dto.CommentResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentMappingBenchmark {
+
+    private final Comment comment = new Comment();
+
+    @Setup
+    public void setUp() {
+        comment.setTaskId(UUID.randomUUID());
+        comment.setWorkspaceId(UUID.randomUUID());
+        comment.setAuthorId(UUID.randomUUID());
+        comment.setBody("Looks good, merging after the migration lands.");
+        comment.onCreate();
+    }
+
+    @Benchmark
+    public CommentResponse toResponse() {
+        return CommentService.toResponse(comment);
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Cost of throwing a 404 from {@code depth} frames down, roughly where a service call sits under the servlet
+ * container, security chain and MVC dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiExceptionBenchmark {
+
+    @Param({"20", "120"})
+    public int depth;
+
+    @Benchmark
+    public Object responseStatusException() {
+        try {
+            return descend(depth, false);
+        } catch (ResponseStatusException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object apiException() {
+        try {
+            return descend(depth, true);
+        } catch (ResponseStatusException ex) {
+            return ex;
+        }
+    }
+
+    private static Object descend(int remaining, boolean stackless) {
+        if (remaining > 0) {
+            return descend(remaining - 1, stackless);
+        }
+        if (stackless) {
+            throw new NotFoundException("Task not found");
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+    }
+}
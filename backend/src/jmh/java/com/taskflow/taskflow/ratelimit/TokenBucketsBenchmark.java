@@ -0,0 +1,54 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TokenBucketsBenchmark {
+
+    private static final long INTERVAL = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long BURST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final UUID hotKey = UUID.fromString("018f3a52-7c4e-7b10-9a3e-5d2f1c0b9a87");
+    private UUID[] keys;
+    private TokenBuckets buckets;
+
+    @Setup
+    public void setUp() {
+        buckets = new TokenBuckets(100_000, Duration.ofMinutes(10));
+        keys = new UUID[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new UUID(0x018f3a527c4e7000L, i);
+        }
+    }
+
+    @Benchmark
+    public long sameKey() {
+        return buckets.tryAcquire(hotKey, INTERVAL, BURST);
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return buckets.tryAcquire(keys[ThreadLocalRandom.current().nextInt(keys.length)], INTERVAL, BURST);
+    }
+}
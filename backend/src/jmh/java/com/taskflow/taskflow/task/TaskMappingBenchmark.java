@@ -0,0 +1,91 @@
+package com.taskflow.taskflow.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+
+/**
+ * The CPU side of a task list request: sort parsing, entity-to-DTO mapping and JSON serialization of a
+ * default-sized page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<Task> tasks = new ArrayList<>();
+    private PageImpl<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Task task = new Task();
+            task.setWorkspaceId(workspaceId);
+            task.setProjectId(projectId);
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Investigate the latency regression on the task list endpoint, item " + i);
+            task.setStatus(TaskStatus.values()[i % 3]);
+            task.setPriority(TaskPriority.values()[i % 3]);
+            task.setAssigneeId(userId);
+            task.setCreatedBy(userId);
+            task.setDueDate(LocalDate.of(2026, 1, 1).plusDays(i));
+            task.onCreate();
+            tasks.add(task);
+        }
+        page = new PageImpl<>(toResponses(), PageRequest.of(0, PAGE_SIZE), 1_000);
+    }
+
+    @Benchmark
+    public Sort parseSort() {
+        return TaskService.parseSort("dueDate,asc");
+    }
+
+    @Benchmark
+    public Sort parseDefaultSort() {
+        return TaskService.parseSort(null);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponses() {
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            responses.add(TaskService.toResponse(task, null));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -9,9 +9,11 @@ import java.util.Base64;
 import java.util.Locale;
 import java.util.UUID;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.taskflow.taskflow.auth.dto.AuthLoginRequest;
@@ -19,82 +21,131 @@ import com.taskflow.taskflow.auth.dto.AuthRefreshRequest;
 import com.taskflow.taskflow.auth.dto.AuthRegisterRequest;
 import com.taskflow.taskflow.auth.dto.AuthResponse;
 import com.taskflow.taskflow.auth.jwt.JwtService;
+import com.taskflow.taskflow.auth.jwt.PrincipalCache;
+import com.taskflow.taskflow.config.ConflictException;
+import com.taskflow.taskflow.config.ServiceUnavailableException;
+import com.taskflow.taskflow.config.UnauthorizedException;
 import com.taskflow.taskflow.user.User;
 import com.taskflow.taskflow.user.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class AuthService {
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final JwtService jwtService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final long refreshExpirationDays;
     private final CurrentUserService currentUserService;
+    private final PrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashing,
             JwtService jwtService,
             RefreshTokenRepository refreshTokenRepository,
             @org.springframework.beans.factory.annotation.Value("${app.refresh.expiration-days}") long refreshExpirationDays,
-            CurrentUserService currentUserService) {
+            CurrentUserService currentUserService,
+            PrincipalCache principalCache,
+            TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
         this.jwtService = jwtService;
         this.refreshTokenRepository = refreshTokenRepository;
         this.refreshExpirationDays = refreshExpirationDays;
         this.currentUserService = currentUserService;
+        this.principalCache = principalCache;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public AuthResponse register(AuthRegisterRequest request) {
         String email = normalizeEmail(request.email());
         if (userRepository.findByEmailIgnoreCase(email).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already registered");
+            throw new ConflictException("Email already registered");
         }
 
+        // BCrypt runs before the write transaction so no pooled connection is held while hashing.
+        String passwordHash = passwordHashing.encode(request.password());
+
         User user = new User();
         user.setEmail(email);
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
-        userRepository.save(user);
+        user.setPasswordHash(passwordHash);
+        String refreshToken;
+        try {
+            refreshToken = transactionTemplate.execute(status -> {
+                userRepository.saveAndFlush(user);
+                return issueRefreshToken(user.getId());
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Email already registered");
+        }
 
         String accessToken = jwtService.generateToken(user.getId());
-        String refreshToken = issueRefreshToken(user.getId());
         return new AuthResponse(accessToken, refreshToken, "Bearer");
     }
 
+    @Timed(value = "auth.login", histogram = true)
     public AuthResponse login(AuthLoginRequest request) {
         String email = normalizeEmail(request.email());
         User user = userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
+                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+        if (!passwordHashing.matches(request.password(), user.getPasswordHash())) {
+            throw new UnauthorizedException("Invalid credentials");
         }
+        String upgradedHash = upgradeHash(request.password(), user.getPasswordHash());
 
         String accessToken = jwtService.generateToken(user.getId());
-        String refreshToken = issueRefreshToken(user.getId());
+        String refreshToken = transactionTemplate.execute(status -> {
+            if (upgradedHash != null) {
+                userRepository.findById(user.getId())
+                        .filter(current -> current.getPasswordHash().equals(user.getPasswordHash()))
+                        .ifPresent(current -> current.setPasswordHash(upgradedHash));
+            }
+            return issueRefreshToken(user.getId());
+        });
         return new AuthResponse(accessToken, refreshToken, "Bearer");
     }
 
+    @Transactional
     public AuthResponse refresh(AuthRefreshRequest request) {
         String token = request.refreshToken();
         String tokenHash = hashToken(token);
 
         RefreshToken stored = refreshTokenRepository
                 .findByTokenHashAndExpiresAtAfter(tokenHash, Instant.now())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         String accessToken = jwtService.generateToken(stored.getUserId());
         String newRefresh = rotateRefreshToken(stored);
         return new AuthResponse(accessToken, newRefresh, "Bearer");
     }
 
+    @Transactional
     public void logout() {
         UUID userId = currentUserService.requireUserId();
         refreshTokenRepository.deleteByUserId(userId);
+        principalCache.evict(userId);
+    }
+
+    /**
+     * Rehashes a just-verified password whose stored hash is below the current algorithm or work factor.
+     * Returns null when no upgrade is due, or when the hashing pool is busy; the next login retries.
+     */
+    private String upgradeHash(String password, String currentHash) {
+        if (!passwordHashing.needsUpgrade(currentHash)) {
+            return null;
+        }
+        try {
+            return passwordHashing.encode(password);
+        } catch (ServiceUnavailableException ex) {
+            return null;
+        }
     }
 
     private String normalizeEmail(String email) {
@@ -129,7 +180,7 @@ public class AuthService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private String hashToken(String token) {
+    static String hashToken(String token) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
@@ -2,13 +2,12 @@ package com.taskflow.taskflow.auth;
 
 import java.util.UUID;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.server.ResponseStatusException;
 
 import com.taskflow.taskflow.auth.jwt.UserPrincipal;
+import com.taskflow.taskflow.config.UnauthorizedException;
 
 @Component
 public class CurrentUserService {
@@ -16,7 +15,7 @@ public class CurrentUserService {
     public UUID requireUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+            throw new UnauthorizedException("Unauthorized");
         }
         return principal.getUser().getId();
     }
@@ -0,0 +1,72 @@
+package com.taskflow.taskflow.auth;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Picks the largest work factor whose hashing time on this machine stays within a target, so the cost is
+ * tuned to the hardware instead of left at the library default.
+ */
+public final class PasswordCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordCalibrator.class);
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 32;
+
+    private PasswordCalibrator() {
+    }
+
+    public static int bcryptStrength(Duration target, int minimum) {
+        return calibrate("bcrypt strength", target, minimum, MAX_BCRYPT_STRENGTH, BCryptPasswordEncoder::new);
+    }
+
+    public static int argon2Iterations(Duration target, int minimum, int memoryKib) {
+        return calibrate("argon2 iterations", target, minimum, MAX_ARGON2_ITERATIONS,
+                iterations -> argon2(memoryKib, iterations));
+    }
+
+    public static PasswordEncoder argon2(int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, memoryKib, iterations);
+    }
+
+    private static int calibrate(
+            String parameter,
+            Duration target,
+            int minimum,
+            int maximum,
+            IntFunction<PasswordEncoder> encoders) {
+        int chosen = minimum;
+        Duration chosenTime = median(encoders.apply(minimum));
+        for (int candidate = minimum + 1; candidate <= maximum; candidate++) {
+            Duration time = median(encoders.apply(candidate));
+            if (time.compareTo(target) > 0) {
+                break;
+            }
+            chosen = candidate;
+            chosenTime = time;
+        }
+        logger.info("Calibrated password {} to {} ({} ms per hash, target {} ms)",
+                parameter, chosen, chosenTime.toMillis(), target.toMillis());
+        return chosen;
+    }
+
+    private static Duration median(PasswordEncoder encoder) {
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[SAMPLES / 2]);
+    }
+}
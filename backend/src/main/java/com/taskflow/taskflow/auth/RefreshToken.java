@@ -3,7 +3,7 @@ package com.taskflow.taskflow.auth;
 import java.time.Instant;
 import java.util.UUID;
 
-import org.hibernate.annotations.UuidGenerator;
+import com.taskflow.taskflow.persistence.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -16,7 +16,7 @@ import jakarta.persistence.Table;
 public class RefreshToken {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
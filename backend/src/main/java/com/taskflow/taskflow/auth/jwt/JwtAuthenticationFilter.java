@@ -9,7 +9,6 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.taskflow.taskflow.user.User;
 import com.taskflow.taskflow.user.UserRepository;
 
 import jakarta.servlet.FilterChain;
@@ -22,10 +21,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserRepository userRepository,
+            PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -43,9 +47,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = header.substring("Bearer ".length());
         try {
             UUID userId = jwtService.parseUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null) {
-                UserPrincipal principal = new UserPrincipal(user);
+            UserPrincipal principal = principalCache.get(userId, this::loadPrincipal);
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -57,5 +60,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserPrincipal loadPrincipal(UUID userId) {
+        return userRepository.findById(userId).map(UserPrincipal::new).orElse(null);
+    }
 }
 
@@ -0,0 +1,86 @@
+package com.taskflow.taskflow.auth.jwt;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.taskflow.event.ClusterMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, short-lived cache of authenticated principals keyed by user id.
+ * Tokens are still verified on every request; only the user lookup is cached.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<UUID, UserPrincipal> cache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PrincipalCache(
+            @Value("${app.auth.principal-cache.max-size}") long maxSize,
+            @Value("${app.auth.principal-cache.ttl-seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principals");
+    }
+
+    /**
+     * Returns the cached principal or loads it. A {@code null} result from the loader is not cached.
+     */
+    public UserPrincipal get(UUID userId, Function<UUID, UserPrincipal> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Evicts immediately and, inside a transaction, once more after commit so a concurrent
+     * request cannot re-cache the pre-commit state. Other nodes are told to evict as well, after
+     * commit: this runs from JPA callbacks in the middle of a flush.
+     */
+    public void evict(UUID userId) {
+        evictLocal(userId);
+        ClusterMessage message = ClusterMessage.userChanged(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(message);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(message);
+        }
+    }
+
+    public void evictLocal(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
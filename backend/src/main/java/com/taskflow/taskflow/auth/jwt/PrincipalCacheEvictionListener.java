@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.auth.jwt;
+
+import org.springframework.stereotype.Component;
+
+import com.taskflow.taskflow.user.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+@Component
+public class PrincipalCacheEvictionListener {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheEvictionListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(User user) {
+        principalCache.evict(user.getId());
+    }
+}
@@ -4,18 +4,22 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskflow.taskflow.auth.CurrentUserService;
 import com.taskflow.taskflow.comment.dto.CommentCreateRequest;
 import com.taskflow.taskflow.comment.dto.CommentResponse;
+import com.taskflow.taskflow.config.NotFoundException;
+import com.taskflow.taskflow.event.WorkspaceEvent;
 import com.taskflow.taskflow.task.Task;
 import com.taskflow.taskflow.task.TaskRepository;
 import com.taskflow.taskflow.workspace.WorkspaceAccessService;
 import com.taskflow.taskflow.workspace.WorkspaceRole;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class CommentService {
 
@@ -23,21 +27,25 @@ public class CommentService {
     private final TaskRepository taskRepository;
     private final WorkspaceAccessService workspaceAccessService;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentService(
             CommentRepository commentRepository,
             TaskRepository taskRepository,
             WorkspaceAccessService workspaceAccessService,
-            CurrentUserService currentUserService) {
+            CurrentUserService currentUserService,
+            ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
         this.workspaceAccessService = workspaceAccessService;
         this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public CommentResponse addComment(UUID taskId, CommentCreateRequest request) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+                .orElseThrow(() -> new NotFoundException("Task not found"));
 
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireRoleIn(
@@ -53,23 +61,26 @@ public class CommentService {
         comment.setAuthorId(userId);
         comment.setBody(request.body());
         commentRepository.save(comment);
+        eventPublisher.publishEvent(WorkspaceEvent.comment(task.getWorkspaceId(), comment.getId(), task.getId()));
 
         return toResponse(comment);
     }
 
+    @Timed(value = "comment.list", histogram = true)
+    @Transactional(readOnly = true)
     public List<CommentResponse> listByTask(UUID taskId) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+                .orElseThrow(() -> new NotFoundException("Task not found"));
 
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireMember(task.getWorkspaceId(), userId);
 
         return commentRepository.findAllByTaskIdOrderByCreatedAtAsc(taskId).stream()
-                .map(this::toResponse)
+                .map(CommentService::toResponse)
                 .collect(Collectors.toList());
     }
 
-    private CommentResponse toResponse(Comment comment) {
+    static CommentResponse toResponse(Comment comment) {
         return new CommentResponse(
                 comment.getId(),
                 comment.getTaskId(),
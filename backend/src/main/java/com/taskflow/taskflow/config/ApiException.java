@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Expected API failure such as a missing resource or denied access. These are part of normal traffic, so no
+ * stack trace is captured and {@link ApiExceptionHandler} does not log one.
+ */
+public class ApiException extends ResponseStatusException {
+
+    public ApiException(HttpStatusCode status, String reason) {
+        super(status, reason);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
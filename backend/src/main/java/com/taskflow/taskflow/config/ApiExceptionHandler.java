@@ -5,14 +5,19 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestControllerAdvice
@@ -20,23 +25,52 @@ public class ApiExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
 
+    private final MeterRegistry meterRegistry;
+    private final LogThrottle logThrottle;
+
+    public ApiExceptionHandler(
+            MeterRegistry meterRegistry,
+            @Value("${app.errors.log-per-second}") int logPerSecond) {
+        this.meterRegistry = meterRegistry;
+        this.logThrottle = new LogThrottle(logPerSecond);
+    }
+
+    /**
+     * {@link ApiException}s are expected outcomes and are logged without a stack trace. Log lines are
+     * throttled so that floods of 404s do not turn into log I/O.
+     */
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ErrorResponse> handleResponseStatus(
             ResponseStatusException ex,
             HttpServletRequest request) {
-        logger.warn("Request failed: {}", request.getRequestURI(), ex);
+        String route = countError(ex.getStatusCode(), request);
+        long suppressed = logThrottle.tryAcquire();
+        if (suppressed >= 0 && ex instanceof ApiException) {
+            logger.warn("Request failed: {} {} on {} ({} similar lines suppressed)",
+                    ex.getStatusCode().value(), ex.getReason(), route, suppressed);
+        } else if (suppressed >= 0) {
+            logger.warn("Request failed: {} ({} similar lines suppressed)", request.getRequestURI(), suppressed, ex);
+        }
         ErrorResponse body = new ErrorResponse(
                 ex.getStatusCode().toString(),
                 ex.getReason(),
                 request.getRequestURI(),
                 Instant.now());
-        return ResponseEntity.status(ex.getStatusCode()).body(body);
+        return ResponseEntity.status(ex.getStatusCode()).headers(ex.getHeaders()).body(body);
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResource(
+            NoResourceFoundException ex,
+            HttpServletRequest request) {
+        return handleResponseStatus(new NotFoundException("Not found"), request);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(
             Exception ex,
             HttpServletRequest request) {
+        countError(HttpStatus.INTERNAL_SERVER_ERROR, request);
         logger.error("Unhandled error: {}", request.getRequestURI(), ex);
         ErrorResponse body = new ErrorResponse(
                 "INTERNAL_SERVER_ERROR",
@@ -50,6 +84,7 @@ public class ApiExceptionHandler {
     public ResponseEntity<ValidationErrorResponse> handleValidation(
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
+        countError(HttpStatus.BAD_REQUEST, request);
         List<ValidationErrorResponse.FieldViolation> details = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
@@ -64,6 +99,14 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    private String countError(HttpStatusCode status, HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? "none" : pattern.toString();
+        meterRegistry.counter("http.server.errors", "status", Integer.toString(status.value()), "route", route)
+                .increment();
+        return route;
+    }
+
     private ValidationErrorResponse.FieldViolation toFieldViolation(FieldError error) {
         String message = error.getDefaultMessage() == null ? "Invalid value" : error.getDefaultMessage();
         return new ValidationErrorResponse.FieldViolation(error.getField(), message);
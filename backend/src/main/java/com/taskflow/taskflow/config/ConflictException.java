@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends ApiException {
+
+    public ConflictException(String reason) {
+        super(HttpStatus.CONFLICT, reason);
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatus;
+
+public class ForbiddenException extends ApiException {
+
+    public ForbiddenException(String reason) {
+        super(HttpStatus.FORBIDDEN, reason);
+    }
+}
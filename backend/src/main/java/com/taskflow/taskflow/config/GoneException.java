@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatus;
+
+public class GoneException extends ApiException {
+
+    public GoneException(String reason) {
+        super(HttpStatus.GONE, reason);
+    }
+}
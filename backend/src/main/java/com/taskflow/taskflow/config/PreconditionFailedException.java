@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionFailedException extends ApiException {
+
+    public PreconditionFailedException(String reason) {
+        super(HttpStatus.PRECONDITION_FAILED, reason);
+    }
+}
@@ -2,31 +2,52 @@ package com.taskflow.taskflow.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.taskflow.taskflow.auth.PasswordCalibrator;
 import com.taskflow.taskflow.auth.jwt.JwtAuthenticationFilter;
+import com.taskflow.taskflow.ratelimit.RateLimitFilter;
+import com.taskflow.taskflow.ratelimit.RateLimitProperties;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ManagementPortRequestMatcher managementPort;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
+            ManagementPortRequestMatcher managementPort) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -37,6 +58,7 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/auth/register",
                                 "/auth/login",
@@ -47,8 +69,12 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "/swagger-ui.html")
                         .permitAll()
+                        // Scrapes are unauthenticated, so only on the management port
+                        .requestMatchers(new AndRequestMatcher(managementPort, new AntPathRequestMatcher("/actuator/prometheus")))
+                        .permitAll()
                         .anyRequest().authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
@@ -57,7 +83,8 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of("http://localhost:5173"));
         config.setAllowedMethods(List.of("GET", "POST", "PATCH", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "If-Match", "If-None-Match"));
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -65,9 +92,29 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * New hashes use {@code app.auth.password.algorithm} with the configured (or calibrated) work factor and
+     * carry an {@code {id}} prefix. Hashes stored before prefixes existed are plain BCrypt.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.auth.password.algorithm}") String algorithm,
+            @Value("${app.auth.password.bcrypt-strength}") int bcryptStrength,
+            @Value("${app.auth.password.argon2-memory-kib}") int argon2MemoryKib,
+            @Value("${app.auth.password.argon2-iterations}") int argon2Iterations,
+            @Value("${app.auth.password.calibrate}") boolean calibrate,
+            @Value("${app.auth.password.calibration-target}") Duration calibrationTarget) {
+        if (calibrate && "bcrypt".equals(algorithm)) {
+            bcryptStrength = PasswordCalibrator.bcryptStrength(calibrationTarget, bcryptStrength);
+        } else if (calibrate && "argon2".equals(algorithm)) {
+            argon2Iterations = PasswordCalibrator.argon2Iterations(calibrationTarget, argon2Iterations, argon2MemoryKib);
+        }
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                "bcrypt", bcrypt,
+                "argon2", PasswordCalibrator.argon2(argon2MemoryKib, argon2Iterations)));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
 
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.http.HttpStatus;
+
+public class UnauthorizedException extends ApiException {
+
+    public UnauthorizedException(String reason) {
+        super(HttpStatus.UNAUTHORIZED, reason);
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.taskflow.taskflow.ratelimit.WorkspaceRateLimitInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final WorkspaceRateLimitInterceptor workspaceRateLimitInterceptor;
+
+    public WebConfig(WorkspaceRateLimitInterceptor workspaceRateLimitInterceptor) {
+        this.workspaceRateLimitInterceptor = workspaceRateLimitInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(workspaceRateLimitInterceptor);
+    }
+}
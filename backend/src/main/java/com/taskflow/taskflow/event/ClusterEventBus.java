@@ -0,0 +1,279 @@
+package com.taskflow.taskflow.event;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.auth.jwt.PrincipalCache;
+import com.taskflow.taskflow.workspace.WorkspaceAccessService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Relays {@link ClusterMessage}s and {@link WorkspaceEvent}s between nodes with PostgreSQL
+ * {@code LISTEN/NOTIFY}. Workspace events are collected per transaction and sent as one {@code pg_notify}
+ * just before commit, on the publishing transaction's connection, so other nodes hear about them only
+ * once it commits. Cluster messages are published after commit and go out right away in a transaction of
+ * their own. Each node listens on its own dedicated connection; after that connection is lost,
+ * notifications sent in the gap are gone, so the node drops its caches and tells its SSE subscribers to
+ * resync.
+ */
+@Component
+public class ClusterEventBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventBus.class);
+
+    /** Postgres rejects payloads of 8000 bytes or more; messages beyond this are split across notifies. */
+    private static final int MAX_PAYLOAD = 7000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ownTransaction;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final PrincipalCache principalCache;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final WorkspaceEventService workspaceEventService;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final Counter received;
+    private final Counter reconnects;
+    private volatile boolean running;
+    private volatile Thread listener;
+
+    public ClusterEventBus(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            PrincipalCache principalCache,
+            WorkspaceAccessService workspaceAccessService,
+            WorkspaceEventService workspaceEventService,
+            MeterRegistry meterRegistry,
+            @Value("${app.cluster.events.enabled}") boolean enabled,
+            @Value("${app.cluster.events.channel}") String channel,
+            @Value("${app.cluster.events.poll-interval}") Duration pollInterval,
+            @Value("${app.cluster.events.reconnect-delay}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.principalCache = principalCache;
+        this.workspaceAccessService = workspaceAccessService;
+        this.workspaceEventService = workspaceEventService;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.received = meterRegistry.counter("cluster.events.received");
+        this.reconnects = meterRegistry.counter("cluster.events.reconnects");
+    }
+
+    @EventListener
+    public void onWorkspaceEvent(WorkspaceEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(ClusterMessage.of(event)));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.messages.add(ClusterMessage.of(event));
+    }
+
+    /**
+     * Sends at once. Publishers raise cluster messages after their transaction commits; by then its
+     * connection no longer commits anything, so the notify runs in a transaction of its own.
+     */
+    @EventListener
+    public void onClusterMessage(ClusterMessage message) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ownTransaction.executeWithoutResult(status -> send(List.of(message)));
+        } else {
+            send(List.of(message));
+        }
+    }
+
+    private void send(List<ClusterMessage> messages) {
+        List<ClusterMessage> chunk = new ArrayList<>();
+        int size = 0;
+        for (ClusterMessage message : messages) {
+            int length = serialize(message).length();
+            if (!chunk.isEmpty() && size + length > MAX_PAYLOAD) {
+                notify(chunk);
+                chunk = new ArrayList<>();
+                size = 0;
+            }
+            chunk.add(message);
+            size += length + 1;
+        }
+        if (!chunk.isEmpty()) {
+            notify(chunk);
+        }
+    }
+
+    private void notify(List<ClusterMessage> messages) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, serialize(new Envelope(nodeId, messages)));
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize cluster message", ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cluster-events-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    reconnects.increment();
+                    resync();
+                }
+                connectedBefore = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (running) {
+                    logger.warn("Cluster event listener disconnected, retrying in {}", reconnectDelay, ex);
+                    sleep(reconnectDelay);
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(payload, Envelope.class);
+        } catch (JsonProcessingException ex) {
+            logger.warn("Ignoring malformed cluster message: {}", payload);
+            return;
+        }
+        if (nodeId.equals(envelope.node())) {
+            return;
+        }
+        for (ClusterMessage message : envelope.messages()) {
+            received.increment();
+            try {
+                switch (message.kind()) {
+                    case WORKSPACE_EVENT -> workspaceEventService.publish(message.event());
+                    case MEMBERSHIP_CHANGED -> workspaceAccessService.evictLocal(message.workspaceId(), message.userId());
+                    case USER_CHANGED -> principalCache.evictLocal(message.userId());
+                }
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to dispatch cluster message {}", message, ex);
+            }
+        }
+    }
+
+    private void resync() {
+        principalCache.evictAll();
+        workspaceAccessService.evictAll();
+        workspaceEventService.broadcastResync();
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Envelope(String node, List<ClusterMessage> messages) {
+    }
+
+    /**
+     * The workspace events of one transaction, sent together on its connection before it commits.
+     */
+    private final class Pending implements TransactionSynchronization {
+        private final List<ClusterMessage> messages = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            send(messages);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClusterEventBus.this);
+        }
+    }
+}
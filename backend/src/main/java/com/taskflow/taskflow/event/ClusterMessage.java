@@ -0,0 +1,31 @@
+package com.taskflow.taskflow.event;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A change other nodes must hear about. Published as an application event, after the change commits, and
+ * relayed by {@link ClusterEventBus} to the rest of the cluster.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterMessage(Kind kind, UUID workspaceId, UUID userId, WorkspaceEvent event) {
+
+    public static ClusterMessage membershipChanged(UUID workspaceId, UUID userId) {
+        return new ClusterMessage(Kind.MEMBERSHIP_CHANGED, workspaceId, userId, null);
+    }
+
+    public static ClusterMessage userChanged(UUID userId) {
+        return new ClusterMessage(Kind.USER_CHANGED, null, userId, null);
+    }
+
+    public static ClusterMessage of(WorkspaceEvent event) {
+        return new ClusterMessage(Kind.WORKSPACE_EVENT, event.workspaceId(), null, event);
+    }
+
+    public enum Kind {
+        WORKSPACE_EVENT,
+        MEMBERSHIP_CHANGED,
+        USER_CHANGED
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.taskflow.event;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * A committed change inside a workspace. Carries ids only; subscribers fetch the current state themselves.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkspaceEvent(Type type, UUID workspaceId, UUID id, UUID taskId) {
+
+    public static WorkspaceEvent task(Type type, UUID workspaceId, UUID taskId) {
+        return new WorkspaceEvent(type, workspaceId, taskId, null);
+    }
+
+    public static WorkspaceEvent comment(UUID workspaceId, UUID commentId, UUID taskId) {
+        return new WorkspaceEvent(Type.COMMENT_CREATED, workspaceId, commentId, taskId);
+    }
+
+    public enum Type {
+        TASK_CREATED("task.created"),
+        TASK_UPDATED("task.updated"),
+        TASK_DELETED("task.deleted"),
+        TASKS_CREATED("tasks.created"),
+        TASKS_UPDATED("tasks.updated"),
+        TASKS_IMPORTED("tasks.imported"),
+        COMMENT_CREATED("comment.created");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        @JsonValue
+        public String eventName() {
+            return eventName;
+        }
+    }
+}
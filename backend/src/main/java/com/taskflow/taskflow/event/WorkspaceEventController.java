@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.event;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class WorkspaceEventController {
+
+    private final WorkspaceEventService workspaceEventService;
+
+    public WorkspaceEventController(WorkspaceEventService workspaceEventService) {
+        this.workspaceEventService = workspaceEventService;
+    }
+
+    @GetMapping(value = "/workspaces/{workspaceId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable UUID workspaceId) {
+        return workspaceEventService.subscribe(workspaceId);
+    }
+}
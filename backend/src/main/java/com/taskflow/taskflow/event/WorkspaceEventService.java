@@ -0,0 +1,322 @@
+package com.taskflow.taskflow.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.auth.CurrentUserService;
+import com.taskflow.taskflow.config.ServiceUnavailableException;
+import com.taskflow.taskflow.workspace.WorkspaceAccessService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed {@link WorkspaceEvent}s to SSE subscribers of the workspace. Each event is serialized
+ * once and offered to every subscriber's bounded queue; a small shared pool drains the queues, so no
+ * servlet thread is held per connection. A subscriber whose queue overflows, or whose socket stalls a
+ * send for longer than {@code app.events.send-timeout}, is disconnected and is expected to reconnect and
+ * catch up through the change feed. A stalled send keeps its thread until the servlet container's write
+ * timeout, so the pool grows by one thread for each until it returns. Heartbeats and the stall check run on
+ * a watchdog thread of their own, so long jobs on the application scheduler cannot hold them up.
+ */
+@Service
+public class WorkspaceEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceEventService.class);
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+
+    private final WorkspaceAccessService workspaceAccessService;
+    private final CurrentUserService currentUserService;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService watchdog;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Counter published;
+    private final Counter evicted;
+    private final Counter stalled;
+
+    public WorkspaceEventService(
+            WorkspaceAccessService workspaceAccessService,
+            CurrentUserService currentUserService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.buffer-size}") int bufferSize,
+            @Value("${app.events.max-subscribers}") int maxSubscribers,
+            @Value("${app.events.sender-threads}") int senderThreads,
+            @Value("${app.events.emitter-timeout}") Duration emitterTimeout,
+            @Value("${app.events.send-timeout}") Duration sendTimeout,
+            @Value("${app.events.heartbeat-interval}") Duration heartbeatInterval) {
+        this.workspaceAccessService = workspaceAccessService;
+        this.currentUserService = currentUserService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        AtomicInteger threadIds = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(
+                senderThreads, senderThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "workspace-events-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workspace-events-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.published = meterRegistry.counter("workspace.events.published");
+        this.evicted = meterRegistry.counter("workspace.events.evicted");
+        this.stalled = meterRegistry.counter("workspace.events.stalled");
+        meterRegistry.gauge("workspace.events.subscribers", subscriberCount);
+        watchdog.scheduleAtFixedRate(
+                guarded(this::heartbeat), heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        watchdog.scheduleAtFixedRate(
+                guarded(this::evictStalled), sendTimeout.toMillis(), sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(UUID workspaceId) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(workspaceId, emitter);
+        subscribers.computeIfAbsent(workspaceId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscriber.offer(new Frame(Long.toString(sequence.incrementAndGet()), "ready", "{}"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(WorkspaceEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.workspaceId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Frame frame;
+        try {
+            frame = new Frame(
+                    Long.toString(sequence.incrementAndGet()),
+                    event.type().eventName(),
+                    objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize workspace event", ex);
+        }
+        published.increment();
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.offer(frame)) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Tells every subscriber that events may have been missed and it should catch up via the change feed.
+     */
+    public void broadcastResync() {
+        Frame frame = new Frame(Long.toString(sequence.incrementAndGet()), "resync", "{}");
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (!subscriber.offer(frame)) {
+                    evict(subscriber);
+                }
+            }
+        }
+    }
+
+    void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (!subscriber.offer(HEARTBEAT)) {
+                    evict(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Disconnects subscribers stuck in a single send for longer than the send timeout, and lends the pool
+     * a replacement thread for each. Runs every send timeout, so a stall is caught within twice that.
+     */
+    void evictStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.markStalled(now)) {
+                    stalled.increment();
+                    borrowSender();
+                    evict(subscriber);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * A periodic task that throws is never run again, so failures are logged and the schedule kept.
+     */
+    private static Runnable guarded(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                logger.warn("Workspace event watchdog task failed", ex);
+            }
+        };
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evicted.increment();
+            subscriber.close();
+        }
+    }
+
+    private synchronized void borrowSender() {
+        senders.setMaximumPoolSize(senders.getMaximumPoolSize() + 1);
+        senders.setCorePoolSize(senders.getCorePoolSize() + 1);
+    }
+
+    private synchronized void returnSender() {
+        senders.setCorePoolSize(senders.getCorePoolSize() - 1);
+        senders.setMaximumPoolSize(senders.getMaximumPoolSize() - 1);
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        Set<Subscriber> targets = subscribers.get(subscriber.workspaceId);
+        if (targets == null || !targets.remove(subscriber)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        if (targets.isEmpty()) {
+            subscribers.remove(subscriber.workspaceId, targets);
+        }
+        return true;
+    }
+
+    private record Frame(String id, String name, String data) {
+    }
+
+    private final class Subscriber {
+        private final UUID workspaceId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedNanos;
+        private volatile boolean sending;
+
+        Subscriber(UUID workspaceId, SseEmitter emitter) {
+            this.workspaceId = workspaceId;
+            this.emitter = emitter;
+        }
+
+        boolean offer(Frame frame) {
+            if (!queue.offer(frame)) {
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+            return true;
+        }
+
+        /**
+         * Completes the emitter from the drain, never from the caller: the emitter locks around each send,
+         * so completing it while a send is stalled would block the publishing or watchdog thread as well.
+         */
+        void close() {
+            closed = true;
+            queue.clear();
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    send(frame);
+                }
+                if (closed && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                remove(this);
+                queue.clear();
+                completed.set(true);
+            } finally {
+                draining.set(false);
+                boolean pending = closed ? !completed.get() : !queue.isEmpty();
+                if (pending && draining.compareAndSet(false, true)) {
+                    senders.execute(this::drain);
+                }
+            }
+        }
+
+        private void send(Frame frame) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            sending = true;
+            try {
+                emitter.send(frame == HEARTBEAT
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().id(frame.id()).name(frame.name()).data(frame.data()));
+            } finally {
+                sending = false;
+                if (stalled.compareAndSet(true, false)) {
+                    returnSender();
+                }
+            }
+        }
+
+        boolean markStalled(long now) {
+            return sending && now - sendStartedNanos > sendTimeoutNanos && stalled.compareAndSet(false, true);
+        }
+    }
+}
@@ -3,8 +3,7 @@ package com.taskflow.taskflow.invite;
 import java.time.Instant;
 import java.util.UUID;
 
-import org.hibernate.annotations.UuidGenerator;
-
+import com.taskflow.taskflow.persistence.UuidV7;
 import com.taskflow.taskflow.workspace.WorkspaceRole;
 
 import jakarta.persistence.Column;
@@ -20,7 +19,7 @@ import jakarta.persistence.Table;
 public class WorkspaceInvite {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
     @Column(name = "workspace_id", nullable = false)
@@ -5,11 +5,14 @@ import java.time.Instant;
 import java.util.Locale;
 import java.util.UUID;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskflow.taskflow.auth.CurrentUserService;
+import com.taskflow.taskflow.config.ConflictException;
+import com.taskflow.taskflow.config.ForbiddenException;
+import com.taskflow.taskflow.config.NotFoundException;
+import com.taskflow.taskflow.config.UnauthorizedException;
 import com.taskflow.taskflow.invite.dto.InviteAcceptResponse;
 import com.taskflow.taskflow.invite.dto.InviteCreateRequest;
 import com.taskflow.taskflow.invite.dto.InviteResponse;
@@ -45,6 +48,7 @@ public class WorkspaceInviteService {
         this.userRepository = userRepository;
     }
 
+    @Transactional
     public InviteResponse createInvite(UUID workspaceId, InviteCreateRequest request) {
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireRoleIn(workspaceId, userId, WorkspaceRole.OWNER, WorkspaceRole.ADMIN);
@@ -60,22 +64,23 @@ public class WorkspaceInviteService {
         return toResponse(invite);
     }
 
+    @Transactional
     public InviteAcceptResponse acceptInvite(String token) {
         UUID userId = currentUserService.requireUserId();
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+                .orElseThrow(() -> new UnauthorizedException("Unauthorized"));
 
         WorkspaceInvite invite = inviteRepository
                 .findByTokenAndAcceptedAtIsNullAndExpiresAtAfter(token, Instant.now())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invite not found"));
+                .orElseThrow(() -> new NotFoundException("Invite not found"));
 
         if (!normalizeEmail(user.getEmail()).equals(normalizeEmail(invite.getEmail()))) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Invite email mismatch");
+            throw new ForbiddenException("Invite email mismatch");
         }
 
         WorkspaceMemberId memberId = new WorkspaceMemberId(invite.getWorkspaceId(), userId);
         if (workspaceMemberRepository.existsById(memberId)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Already a member");
+            throw new ConflictException("Already a member");
         }
 
         WorkspaceMember member = new WorkspaceMember();
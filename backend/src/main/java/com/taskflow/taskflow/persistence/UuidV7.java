@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.persistence;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Assigns a time-ordered (RFC 9562 version 7) UUID on insert. Drop-in replacement for
+ * {@link org.hibernate.annotations.UuidGenerator} on {@code UUID} ids.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
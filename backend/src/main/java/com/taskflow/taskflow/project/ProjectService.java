@@ -4,11 +4,11 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskflow.taskflow.auth.CurrentUserService;
+import com.taskflow.taskflow.config.NotFoundException;
 import com.taskflow.taskflow.project.dto.ProjectCreateRequest;
 import com.taskflow.taskflow.project.dto.ProjectResponse;
 import com.taskflow.taskflow.workspace.WorkspaceAccessService;
@@ -30,6 +30,7 @@ public class ProjectService {
         this.currentUserService = currentUserService;
     }
 
+    @Transactional
     public ProjectResponse create(UUID workspaceId, ProjectCreateRequest request) {
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireRoleIn(workspaceId, userId, WorkspaceRole.OWNER, WorkspaceRole.ADMIN);
@@ -43,6 +44,7 @@ public class ProjectService {
         return toResponse(project);
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> list(UUID workspaceId) {
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireMember(workspaceId, userId);
@@ -52,9 +54,10 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Project requireProjectInWorkspace(UUID projectId, UUID workspaceId) {
         return projectRepository.findByIdAndWorkspaceId(projectId, workspaceId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found"));
+                .orElseThrow(() -> new NotFoundException("Project not found"));
     }
 
     private ProjectResponse toResponse(Project project) {
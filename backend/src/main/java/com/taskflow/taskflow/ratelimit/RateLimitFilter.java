@@ -0,0 +1,50 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.taskflow.taskflow.auth.jwt.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the first matching route's per-user budget. Runs after JWT authentication; anonymous requests are
+ * keyed by client address instead. Workspace budgets are charged later, by
+ * {@link WorkspaceRateLimitInterceptor}, once membership is known.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter.RouteLimit route = rateLimiter.match(request);
+        if (route != null && !rateLimiter.tryUser(route, subject(request), request, response)) {
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static Object subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser().getId();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Request budgets per route. The first route whose method and path match a request applies; a missing
+ * budget means that scope is not limited on the route.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        long maxBuckets,
+        Duration idleTimeout,
+        List<Route> routes
+) {
+
+    public RateLimitProperties {
+        routes = routes == null ? List.of() : List.copyOf(routes);
+    }
+
+    public record Route(String method, String path, Budget user, Budget workspace) {
+    }
+
+    public record Budget(double perSecond, int burst) {
+    }
+}
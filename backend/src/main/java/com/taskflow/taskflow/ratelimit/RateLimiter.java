@@ -0,0 +1,178 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.config.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Route budgets and their token buckets. {@link RateLimitFilter} charges the per-user budget;
+ * {@link WorkspaceRateLimitInterceptor} charges the per-workspace budget once the caller is known to be a
+ * member. A charge that is refused writes the 429 response and returns {@code false}.
+ */
+@Component
+class RateLimiter {
+
+    private static final String WORKSPACE_VARIABLE = "workspaceId";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final List<RouteLimit> routes;
+    private final TokenBuckets buckets;
+    private final ObjectMapper objectMapper;
+
+    RateLimiter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.buckets = new TokenBuckets(properties.maxBuckets(), properties.idleTimeout());
+        this.objectMapper = objectMapper;
+        this.routes = new ArrayList<>();
+        for (RateLimitProperties.Route route : properties.routes()) {
+            routes.add(new RouteLimit(routes.size(), route, meterRegistry));
+        }
+        meterRegistry.gauge("http.server.requests.throttle.buckets", buckets, TokenBuckets::size);
+    }
+
+    /**
+     * The first route matching the request, or {@code null} when none does or limiting is off.
+     */
+    RouteLimit match(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        PathContainer path = pathOf(request);
+        for (RouteLimit route : routes) {
+            if ((route.method == null || route.method.equalsIgnoreCase(request.getMethod())) && route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    boolean tryUser(RouteLimit route, Object subject, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (route.user == null) {
+            return true;
+        }
+        long wait = buckets.tryAcquire(new BucketKey(route.index, false, subject),
+                route.user.intervalNanos, route.user.burstNanos);
+        if (wait > 0) {
+            route.throttledUsers.increment();
+            reject(request, response, wait);
+            return false;
+        }
+        return true;
+    }
+
+    boolean tryWorkspace(RouteLimit route, UUID workspaceId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (route.workspace == null) {
+            return true;
+        }
+        long wait = buckets.tryAcquire(new BucketKey(route.index, true, workspaceId),
+                route.workspace.intervalNanos, route.workspace.burstNanos);
+        if (wait > 0) {
+            route.throttledWorkspaces.increment();
+            reject(request, response, wait);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The {@code {workspaceId}} the route's path pattern captures, or {@code null} when the route has no
+     * workspace budget or the path carries no valid id.
+     */
+    UUID workspaceId(RouteLimit route, HttpServletRequest request) {
+        if (route.workspace == null) {
+            return null;
+        }
+        PathPattern.PathMatchInfo info = route.pattern.matchAndExtract(pathOf(request));
+        String value = info == null ? null : info.getUriVariables().get(WORKSPACE_VARIABLE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static PathContainer pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return PathContainer.parsePath(uri.substring(request.getContextPath().length()));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorResponse body = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.toString(),
+                "Rate limit exceeded",
+                request.getRequestURI(),
+                Instant.now());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private record BucketKey(int route, boolean workspace, Object subject) {
+    }
+
+    private record Rate(long intervalNanos, long burstNanos) {
+
+        static Rate of(RateLimitProperties.Budget budget) {
+            if (budget == null) {
+                return null;
+            }
+            long interval = (long) (NANOS_PER_SECOND / budget.perSecond());
+            return new Rate(interval, interval * Math.max(1, budget.burst()));
+        }
+    }
+
+    static final class RouteLimit {
+
+        private final int index;
+        private final String method;
+        private final PathPattern pattern;
+        private final Rate user;
+        private final Rate workspace;
+        private final Counter throttledUsers;
+        private final Counter throttledWorkspaces;
+
+        RouteLimit(int index, RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.method = route.method();
+            this.pattern = PathPatternParser.defaultInstance.parse(route.path());
+            this.user = Rate.of(route.user());
+            this.workspace = Rate.of(route.workspace());
+            this.throttledUsers = throttledCounter(meterRegistry, route.path(), "user");
+            this.throttledWorkspaces = throttledCounter(meterRegistry, route.path(), "workspace");
+        }
+
+        private static Counter throttledCounter(MeterRegistry meterRegistry, String path, String scope) {
+            return Counter.builder("http.server.requests.throttled")
+                    .tag("route", path)
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Token buckets stored as a single "theoretical arrival time" per key (GCRA), so taking a token is one CAS
+ * with no locks. Buckets live in a bounded Caffeine map and are dropped once idle, by which time they
+ * would have refilled anyway.
+ */
+class TokenBuckets {
+
+    private final Cache<Object, AtomicLong> buckets;
+    private final long origin = System.nanoTime();
+
+    TokenBuckets(long maxBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return 0 when the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    long tryAcquire(Object key, long intervalNanos, long burstNanos) {
+        AtomicLong arrival = buckets.get(key, ignored -> new AtomicLong());
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.ratelimit;
+
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.taskflow.taskflow.auth.jwt.UserPrincipal;
+import com.taskflow.taskflow.workspace.WorkspaceAccessService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Charges the matching route's per-workspace budget, but only for authenticated members of that workspace:
+ * callers outside it get the usual 404 from the membership check and cannot drain another tenant's budget.
+ */
+@Component
+public class WorkspaceRateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final WorkspaceAccessService workspaceAccessService;
+
+    public WorkspaceRateLimitInterceptor(RateLimiter rateLimiter, WorkspaceAccessService workspaceAccessService) {
+        this.rateLimiter = rateLimiter;
+        this.workspaceAccessService = workspaceAccessService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        RateLimiter.RouteLimit route = rateLimiter.match(request);
+        UUID workspaceId = route == null ? null : rateLimiter.workspaceId(route, request);
+        if (workspaceId == null) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return true;
+        }
+        workspaceAccessService.requireMember(workspaceId, principal.getUser().getId());
+        return rateLimiter.tryWorkspace(route, workspaceId, request, response);
+    }
+}
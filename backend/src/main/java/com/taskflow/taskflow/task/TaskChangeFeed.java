@@ -0,0 +1,95 @@
+package com.taskflow.taskflow.task;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.taskflow.config.GoneException;
+import com.taskflow.taskflow.task.dto.TaskChange;
+import com.taskflow.taskflow.task.dto.TaskChangesResponse;
+
+/**
+ * Serves a workspace's task changes (upserts and deletion tombstones) after a sync token, in the order of
+ * the writing transactions. Changes are held back while any older transaction is still running, so a write
+ * that commits late cannot land behind a token that was already handed out.
+ */
+@Service
+public class TaskChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final Duration tombstoneRetention;
+
+    public TaskChangeFeed(
+            TaskRepository taskRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            @Value("${app.tasks.changes.tombstone-retention}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public void recordDeletion(Task task) {
+        taskTombstoneRepository.save(new TaskTombstone(task, Instant.now()));
+    }
+
+    public TaskChangesResponse changes(UUID workspaceId, String since, int size) {
+        TaskSyncToken position = TaskSyncToken.decode(since);
+        Instant now = Instant.now();
+        if (!TaskSyncToken.START.equals(position) && position.issuedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new GoneException("Sync token expired");
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<TaskChangeRow> rows = taskTombstoneRepository.findChanges(
+                workspaceId, position.xid(), position.id(), limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<TaskChangeRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        List<UUID> liveIds = page.stream().filter(row -> !row.isDeleted()).map(TaskChangeRow::getId).toList();
+        Map<UUID, Task> tasks = taskRepository.findAllById(liveIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskChange> changes = new ArrayList<>(page.size());
+        for (TaskChangeRow row : page) {
+            Instant changedAt = Instant.EPOCH.plus(row.getChangedAt(), ChronoUnit.MICROS);
+            if (row.isDeleted()) {
+                changes.add(new TaskChange(TaskChange.Type.DELETE, row.getId(), changedAt, null));
+                continue;
+            }
+            Task task = tasks.get(row.getId());
+            // Deleted after the feed query ran; its tombstone is delivered on a later pull.
+            if (task != null) {
+                changes.add(new TaskChange(TaskChange.Type.UPSERT, task.getId(), changedAt, TaskService.toResponse(task, null)));
+            }
+        }
+
+        TaskSyncToken next = page.isEmpty() ? position.reissue(now) : TaskSyncToken.after(page.get(page.size() - 1), now);
+        return new TaskChangesResponse(changes, next.encode(), hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.changes.purge-interval}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = taskTombstoneRepository.purgeBefore(Instant.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            logger.info("Purged {} task tombstones", purged);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.taskflow.task;
+
+/**
+ * Cheap per-workspace change marker: the newest {@code updated_at} (epoch microseconds) and the task count
+ * from {@code task_counters}.
+ */
+public interface TaskChangeMarker {
+
+    long getLastUpdated();
+
+    long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.task;
+
+import java.util.UUID;
+
+public interface TaskChangeRow {
+
+    UUID getId();
+
+    long getChangeXid();
+
+    long getChangedAt();
+
+    boolean isDeleted();
+}
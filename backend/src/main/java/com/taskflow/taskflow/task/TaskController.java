@@ -1,8 +1,13 @@
 package com.taskflow.taskflow.task;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +16,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.taskflow.taskflow.task.dto.TaskBatchCreateRequest;
+import com.taskflow.taskflow.task.dto.TaskBatchResult;
+import com.taskflow.taskflow.task.dto.TaskBatchUpdateRequest;
+import com.taskflow.taskflow.task.dto.TaskChangesResponse;
 import com.taskflow.taskflow.task.dto.TaskCreateRequest;
+import com.taskflow.taskflow.task.dto.TaskCursorPage;
+import com.taskflow.taskflow.task.dto.TaskImportResult;
 import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.dto.TaskStatsResponse;
 import com.taskflow.taskflow.task.dto.TaskUpdateRequest;
 
 import jakarta.validation.Valid;
@@ -37,6 +52,28 @@ public class TaskController {
         return taskService.create(projectId, request);
     }
 
+    @PostMapping("/projects/{projectId}/tasks:batch")
+    public List<TaskBatchResult> createBatch(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody TaskBatchCreateRequest request) {
+        return taskService.createBatch(projectId, request);
+    }
+
+    @PatchMapping("/workspaces/{workspaceId}/tasks:batch")
+    public List<TaskBatchResult> updateBatch(
+            @PathVariable UUID workspaceId,
+            @Valid @RequestBody TaskBatchUpdateRequest request) {
+        return taskService.updateBatch(workspaceId, request);
+    }
+
+    @PostMapping("/projects/{projectId}/tasks:import")
+    public TaskImportResult importTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) {
+        return taskService.importTasks(projectId, TaskDataFormat.from(format), body);
+    }
+
     @GetMapping("/workspaces/{workspaceId}/tasks")
     public Page<TaskResponse> list(
             @PathVariable UUID workspaceId,
@@ -46,20 +83,84 @@ public class TaskController {
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String sort) {
-        return taskService.list(workspaceId, status, priority, assigneeId, q, page, size, sort);
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean highlight,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskService.listETag(workspaceId))) {
+            return null;
+        }
+        return taskService.list(workspaceId, status, priority, assigneeId, q, page, size, sort, highlight);
+    }
+
+    @GetMapping(value = "/workspaces/{workspaceId}/tasks", params = "cursor")
+    public TaskCursorPage listByCursor(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean highlight) {
+        return taskService.listByCursor(workspaceId, status, priority, assigneeId, q, cursor, size, sort, highlight);
+    }
+
+    @GetMapping("/workspaces/{workspaceId}/tasks/stats")
+    public TaskStatsResponse stats(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) UUID projectId) {
+        return taskService.stats(workspaceId, projectId);
+    }
+
+    @GetMapping("/workspaces/{workspaceId}/tasks/changes")
+    public TaskChangesResponse changes(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        return taskService.changes(workspaceId, since, size);
+    }
+
+    @GetMapping("/workspaces/{workspaceId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskDataFormat exportFormat = TaskDataFormat.from(format);
+        StreamingResponseBody body = taskService.export(workspaceId, status, priority, assigneeId, q, exportFormat);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks-" + workspaceId + "." + exportFormat.extension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 
     @GetMapping("/tasks/{taskId}")
-    public TaskResponse get(@PathVariable UUID taskId) {
-        return taskService.get(taskId);
+    public ResponseEntity<TaskResponse> get(@PathVariable UUID taskId, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(taskService.eTag(taskId))) {
+            return null;
+        }
+        TaskResponse task = taskService.get(taskId);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.strong(task.id(), task.version()))
+                .body(task);
     }
 
     @PatchMapping("/tasks/{taskId}")
-    public TaskResponse update(
+    public ResponseEntity<TaskResponse> update(
             @PathVariable UUID taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateRequest request) {
-        return taskService.update(taskId, request);
+        TaskResponse task = taskService.update(taskId, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.strong(task.id(), task.version()))
+                .body(task);
     }
 
     @DeleteMapping("/tasks/{taskId}")
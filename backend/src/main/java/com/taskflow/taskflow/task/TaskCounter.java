@@ -0,0 +1,25 @@
+package com.taskflow.taskflow.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "task_counters")
+public class TaskCounter {
+
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long count;
+
+    public TaskCounterId getId() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
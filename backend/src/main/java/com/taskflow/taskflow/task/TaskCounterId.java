@@ -0,0 +1,92 @@
+package com.taskflow.taskflow.task;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class TaskCounterId implements Serializable {
+
+    /**
+     * Row order as Postgres sorts the primary key: UUIDs compare as unsigned bytes (unlike
+     * {@link UUID#compareTo}), and status/priority codes follow enum order.
+     */
+    static final Comparator<TaskCounterId> LOCK_ORDER = Comparator
+            .comparing(TaskCounterId::getWorkspaceId, TaskCounterId::compareUnsigned)
+            .thenComparing(TaskCounterId::getProjectId, TaskCounterId::compareUnsigned)
+            .thenComparing(TaskCounterId::getStatus)
+            .thenComparing(TaskCounterId::getPriority);
+
+    @Column(name = "workspace_id", nullable = false)
+    private UUID workspaceId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    public TaskCounterId() {
+    }
+
+    public TaskCounterId(UUID workspaceId, UUID projectId, TaskStatus status, TaskPriority priority) {
+        this.workspaceId = workspaceId;
+        this.projectId = projectId;
+        this.status = status;
+        this.priority = priority;
+    }
+
+    public static TaskCounterId of(Task task) {
+        return new TaskCounterId(task.getWorkspaceId(), task.getProjectId(), task.getStatus(), task.getPriority());
+    }
+
+    public UUID getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TaskCounterId that)) {
+            return false;
+        }
+        return Objects.equals(workspaceId, that.workspaceId)
+                && Objects.equals(projectId, that.projectId)
+                && status == that.status
+                && priority == that.priority;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(workspaceId, projectId, status, priority);
+    }
+}
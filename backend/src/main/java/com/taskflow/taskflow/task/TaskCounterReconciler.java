@@ -0,0 +1,71 @@
+package com.taskflow.taskflow.task;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically recomputes {@code task_counters} from {@code tasks} to repair drift (e.g. rows changed
+ * outside the application). A cluster-wide advisory lock makes sure only one instance runs at a time;
+ * each workspace is fixed in its own short transaction.
+ */
+@Component
+public class TaskCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterReconciler.class);
+    private static final long ADVISORY_LOCK_KEY = 0x7461736b636e74L;
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate runTransaction;
+    private final TransactionTemplate workspaceTransaction;
+
+    public TaskCounterReconciler(
+            TaskCounterRepository taskCounterRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.taskCounterRepository = taskCounterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.runTransaction = new TransactionTemplate(transactionManager);
+        this.workspaceTransaction = new TransactionTemplate(transactionManager);
+        this.workspaceTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.tasks.counters.reconcile-interval}",
+            initialDelayString = "${app.tasks.counters.reconcile-interval}")
+    public void reconcile() {
+        runTransaction.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            List<UUID> workspaceIds = jdbcTemplate.queryForList("SELECT id FROM workspaces", UUID.class);
+            long repaired = 0;
+            for (UUID workspaceId : workspaceIds) {
+                repaired += reconcile(workspaceId);
+            }
+            if (repaired > 0) {
+                logger.warn("Repaired {} task counter rows across {} workspaces", repaired, workspaceIds.size());
+            }
+        });
+    }
+
+    public long reconcile(UUID workspaceId) {
+        Long repaired = workspaceTransaction.execute(status -> {
+            // Locking existing counters first makes the recount below see every writer that already holds them.
+            taskCounterRepository.lockWorkspace(workspaceId);
+            return taskCounterRepository.reconcileWorkspace(workspaceId);
+        });
+        return repaired == null ? 0 : repaired;
+    }
+}
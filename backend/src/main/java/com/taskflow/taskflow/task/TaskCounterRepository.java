@@ -0,0 +1,76 @@
+package com.taskflow.taskflow.task;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_counters (workspace_id, project_id, status, priority, task_count)
+            VALUES (:workspaceId, :projectId, :status, :priority, :delta)
+            ON CONFLICT (workspace_id, project_id, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count
+            """, nativeQuery = true)
+    void increment(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("projectId") UUID projectId,
+            @Param("status") short status,
+            @Param("priority") short priority,
+            @Param("delta") long delta);
+
+    @Query("""
+            select c.id.status, c.id.priority, sum(c.count)
+            from TaskCounter c
+            where c.id.workspaceId = :workspaceId
+            group by c.id.status, c.id.priority
+            """)
+    List<Object[]> sumByWorkspace(@Param("workspaceId") UUID workspaceId);
+
+    @Query("""
+            select c.id.status, c.id.priority, sum(c.count)
+            from TaskCounter c
+            where c.id.workspaceId = :workspaceId and c.id.projectId = :projectId
+            group by c.id.status, c.id.priority
+            """)
+    List<Object[]> sumByProject(@Param("workspaceId") UUID workspaceId, @Param("projectId") UUID projectId);
+
+    /** Locks in {@link TaskCounterId#LOCK_ORDER}, the order counter writers use, so the two cannot deadlock. */
+    @Query(value = """
+            SELECT 1 FROM task_counters
+            WHERE workspace_id = :workspaceId
+            ORDER BY project_id, status, priority
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Integer> lockWorkspace(@Param("workspaceId") UUID workspaceId);
+
+    @Query(value = """
+            WITH actual AS (
+                SELECT workspace_id, project_id, status, priority, count(*) AS task_count
+                FROM tasks
+                WHERE workspace_id = :workspaceId
+                GROUP BY workspace_id, project_id, status, priority
+            ), upserted AS (
+                INSERT INTO task_counters (workspace_id, project_id, status, priority, task_count)
+                SELECT workspace_id, project_id, status, priority, task_count FROM actual
+                ON CONFLICT (workspace_id, project_id, status, priority)
+                DO UPDATE SET task_count = EXCLUDED.task_count
+                WHERE task_counters.task_count <> EXCLUDED.task_count
+                RETURNING 1
+            ), removed AS (
+                DELETE FROM task_counters c
+                WHERE c.workspace_id = :workspaceId
+                  AND NOT EXISTS (
+                      SELECT 1 FROM actual a
+                      WHERE a.project_id = c.project_id AND a.status = c.status AND a.priority = c.priority)
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM upserted) + (SELECT count(*) FROM removed)
+            """, nativeQuery = true)
+    long reconcileWorkspace(@Param("workspaceId") UUID workspaceId);
+}
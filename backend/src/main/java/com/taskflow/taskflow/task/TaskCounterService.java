@@ -0,0 +1,105 @@
+package com.taskflow.taskflow.task;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.taskflow.task.dto.TaskStatsResponse;
+
+/**
+ * Keeps {@code task_counters} in step with {@code tasks}. Deltas are collected for the current transaction
+ * and applied just before it commits, in a fixed key order, so counter row locks are held briefly and
+ * concurrent writers cannot deadlock on them.
+ */
+@Service
+public class TaskCounterService {
+
+    private final TaskCounterRepository taskCounterRepository;
+
+    public TaskCounterService(TaskCounterRepository taskCounterRepository) {
+        this.taskCounterRepository = taskCounterRepository;
+    }
+
+    public void created(Task task) {
+        adjust(TaskCounterId.of(task), 1);
+    }
+
+    public void deleted(Task task) {
+        adjust(TaskCounterId.of(task), -1);
+    }
+
+    public void moved(TaskCounterId before, Task task) {
+        TaskCounterId after = TaskCounterId.of(task);
+        if (!before.equals(after)) {
+            adjust(before, -1);
+            adjust(after, 1);
+        }
+    }
+
+    public TaskStatsResponse stats(UUID workspaceId, UUID projectId) {
+        List<Object[]> rows = projectId == null
+                ? taskCounterRepository.sumByWorkspace(workspaceId)
+                : taskCounterRepository.sumByProject(workspaceId, projectId);
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        long total = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            byStatus.merge((TaskStatus) row[0], count, Long::sum);
+            byPriority.merge((TaskPriority) row[1], count, Long::sum);
+            total += count;
+        }
+        return new TaskStatsResponse(total, byStatus, byPriority);
+    }
+
+    private void adjust(TaskCounterId key, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, delta);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<TaskCounterId, Long> pending = (Map<TaskCounterId, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<TaskCounterId, Long> deltas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    deltas.entrySet().stream()
+                            .filter(entry -> entry.getValue() != 0)
+                            .sorted(Map.Entry.comparingByKey(TaskCounterId.LOCK_ORDER))
+                            .forEach(entry -> apply(entry.getKey(), entry.getValue()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskCounterService.this);
+                }
+            });
+            pending = deltas;
+        }
+        pending.merge(key, delta, Long::sum);
+    }
+
+    private void apply(TaskCounterId key, long delta) {
+        taskCounterRepository.increment(
+                key.getWorkspaceId(),
+                key.getProjectId(),
+                key.getStatus().code(),
+                key.getPriority().code(),
+                delta);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.taskflow.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+
+import com.taskflow.taskflow.config.BadRequestException;
+
+/**
+ * Keyset position in a task listing: the sort key of the last returned row plus its id as tie-breaker.
+ * Encoded as an opaque URL-safe string.
+ */
+public record TaskCursor(String field, Sort.Direction direction, UUID id, Comparable<?> value) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor after(Task task, Sort.Order order) {
+        return new TaskCursor(order.getProperty(), order.getDirection(), task.getId(), keyOf(task, order.getProperty()));
+    }
+
+    public static TaskCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            String field = parts[0];
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            UUID id = UUID.fromString(parts[2]);
+            Comparable<?> value = parts[3].isEmpty() ? null : parseValue(field, parts[3]);
+            return new TaskCursor(field, direction, id, value);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = field + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR
+                + (value == null ? "" : value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(Sort.Order order) {
+        return field.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    public boolean nullableKey() {
+        return "dueDate".equals(field);
+    }
+
+    private static Comparable<?> keyOf(Task task, String field) {
+        return switch (field) {
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            case "dueDate" -> task.getDueDate();
+            case "priority" -> task.getPriority();
+            case "status" -> task.getStatus();
+            default -> throw new IllegalArgumentException("Unsupported cursor field: " + field);
+        };
+    }
+
+    private static Comparable<?> parseValue(String field, String value) {
+        return switch (field) {
+            case "createdAt", "updatedAt" -> Instant.parse(value);
+            case "dueDate" -> LocalDate.parse(value);
+            case "priority" -> TaskPriority.valueOf(value);
+            case "status" -> TaskStatus.valueOf(value);
+            default -> throw new IllegalArgumentException("Unsupported cursor field: " + field);
+        };
+    }
+}
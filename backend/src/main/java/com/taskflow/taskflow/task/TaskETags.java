@@ -0,0 +1,34 @@
+package com.taskflow.taskflow.task;
+
+import java.util.UUID;
+
+/**
+ * Entity tags for task resources. Single tasks get a strong tag from id and version; lists get a weak tag
+ * from the workspace's latest {@code updated_at} and its task count.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String strong(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String weak(long lastUpdated, long total) {
+        return "W/\"" + Long.toString(lastUpdated, 36) + "-" + total + "\"";
+    }
+
+    /**
+     * Strong comparison for {@code If-Match}: {@code *} or any listed tag equal to {@code current}.
+     */
+    static boolean matches(String ifMatch, String current) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
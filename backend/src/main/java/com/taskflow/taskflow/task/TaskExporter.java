@@ -0,0 +1,120 @@
+package com.taskflow.taskflow.task;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskflow.taskflow.task.dto.TaskResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Writes every task matching a specification straight to the response. Rows are read through a
+ * server-side cursor and detached once written, so memory use does not grow with the result size.
+ */
+@Component
+public class TaskExporter {
+
+    private static final int FLUSH_EVERY = 1000;
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("workspaceId")
+            .addColumn("projectId")
+            .addColumn("title")
+            .addColumn("description")
+            .addColumn("status")
+            .addColumn("priority")
+            .addColumn("assigneeId")
+            .addColumn("createdBy")
+            .addColumn("dueDate")
+            .addColumn("version")
+            .addColumn("createdAt")
+            .addColumn("updatedAt")
+            .build()
+            .withHeader();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+    private final int fetchSize;
+
+    public TaskExporter(
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${app.tasks.export.fetch-size}") int fetchSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ndjsonWriter = objectMapper.writerFor(TaskResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                .build();
+        this.csvWriter = csvMapper.writerFor(TaskResponse.class)
+                .with(CSV_SCHEMA)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = fetchSize;
+    }
+
+    public StreamingResponseBody export(Specification<Task> spec, TaskDataFormat format) {
+        ObjectWriter writer = format == TaskDataFormat.CSV ? csvWriter : ndjsonWriter;
+        return out -> readOnlyTransaction.executeWithoutResult(status -> write(spec, writer, out));
+    }
+
+    private void write(Specification<Task> spec, ObjectWriter writer, OutputStream out) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(spec.toPredicate(root, query, cb));
+
+        try (Stream<Task> tasks = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+                SequenceWriter rows = writer.writeValues(out)) {
+            int written = 0;
+            for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                Task task = it.next();
+                rows.write(TaskService.toResponse(task, null));
+                entityManager.detach(task);
+                if (++written % FLUSH_EVERY == 0) {
+                    rows.flush();
+                }
+            }
+            if (writer == ndjsonWriter && written > 0) {
+                out.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.taskflow.taskflow.task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskflow.taskflow.config.ApiException;
+import com.taskflow.taskflow.config.BadRequestException;
+import com.taskflow.taskflow.config.ServiceUnavailableException;
+import com.taskflow.taskflow.task.dto.TaskCreateRequest;
+import com.taskflow.taskflow.task.dto.TaskImportResult;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk-loads tasks with PostgreSQL {@code COPY}. Rows are parsed and validated one at a time and streamed
+ * into a transaction-scoped staging table, which is then moved into {@code tasks} with a single
+ * {@code INSERT ... SELECT}.
+ */
+@Component
+public class TaskImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImporter.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    // SQLSTATE class 22: a value the column cannot hold, e.g. an encoding the server rejects
+    private static final String DATA_EXCEPTION_CLASS = "22";
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE task_import_staging (
+                row_number BIGINT NOT NULL,
+                title TEXT NOT NULL,
+                description TEXT,
+                status SMALLINT NOT NULL,
+                priority SMALLINT NOT NULL,
+                assignee_id UUID,
+                due_date DATE
+            ) ON COMMIT DROP
+            """;
+    private static final String COPY_SQL = """
+            COPY task_import_staging (row_number, title, description, status, priority, assignee_id, due_date)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+    private static final String DROP_UNKNOWN_ASSIGNEES_SQL = """
+            DELETE FROM task_import_staging s
+            WHERE s.assignee_id IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = s.assignee_id)
+            RETURNING s.row_number
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO tasks (id, workspace_id, project_id, title, description, status, priority,
+                               assignee_id, created_by, due_date, version, created_at, updated_at)
+            SELECT uuid_generate_v7(), ?, ?, s.title, s.description, s.status, s.priority,
+                   s.assignee_id, ?, s.due_date, 0, now(), now()
+            FROM task_import_staging s
+            """;
+    private static final String COUNT_SQL = """
+            INSERT INTO task_counters (workspace_id, project_id, status, priority, task_count)
+            SELECT ?, ?, s.status, s.priority, count(*)
+            FROM task_import_staging s
+            GROUP BY s.status, s.priority
+            ON CONFLICT (workspace_id, project_id, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count
+            """;
+
+    private final DataSource dataSource;
+    private final ObjectReader ndjsonReader;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader csvReader;
+    private final Validator validator;
+
+    public TaskImporter(DataSource dataSource, ObjectMapper objectMapper, Validator validator) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.ndjsonReader = objectMapper.readerFor(TaskCreateRequest.class);
+        this.csvReader = new CsvMapper().readerFor(Map.class).with(CsvSchema.emptySchema().withHeader());
+        this.validator = validator;
+    }
+
+    @Transactional
+    public TaskImportResult load(UUID workspaceId, UUID projectId, UUID userId, TaskDataFormat format, InputStream in) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        Errors errors = new Errors();
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+            try (Writer copy = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_SIZE),
+                    StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+                RowSink sink = (row, request) -> writeRow(copy, row, request);
+                if (format == TaskDataFormat.CSV) {
+                    readCsv(in, sink, errors);
+                } else {
+                    readNdjson(in, sink, errors);
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet rejected = statement.executeQuery(DROP_UNKNOWN_ASSIGNEES_SQL)) {
+                while (rejected.next()) {
+                    errors.add(rejected.getLong(1), "assigneeId: user not found");
+                }
+            }
+            long imported;
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                insert.setObject(1, workspaceId);
+                insert.setObject(2, projectId);
+                insert.setObject(3, userId);
+                imported = insert.executeLargeUpdate();
+            }
+            try (PreparedStatement count = connection.prepareStatement(COUNT_SQL)) {
+                count.setObject(1, workspaceId);
+                count.setObject(2, projectId);
+                count.executeUpdate();
+            }
+            return errors.toResult(imported);
+        } catch (SQLException ex) {
+            throw importFailed(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void readNdjson(InputStream in, RowSink sink, Errors errors) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            TaskCreateRequest request;
+            try {
+                request = ndjsonReader.readValue(line);
+            } catch (JsonProcessingException ex) {
+                errors.add(row, describe(ex));
+                continue;
+            }
+            accept(row, request, sink, errors);
+        }
+    }
+
+    private void readCsv(InputStream in, RowSink sink, Errors errors) throws IOException {
+        long row = 0;
+        try (MappingIterator<Map<String, String>> rows = csvReader.readValues(in)) {
+            while (rows.hasNextValue()) {
+                Map<String, String> values = rows.nextValue();
+                row++;
+                values.values().removeIf(String::isEmpty);
+                TaskCreateRequest request;
+                try {
+                    request = objectMapper.convertValue(values, TaskCreateRequest.class);
+                } catch (IllegalArgumentException ex) {
+                    errors.add(row, ex.getCause() instanceof JsonProcessingException cause
+                            ? describe(cause)
+                            : "Malformed row");
+                    continue;
+                }
+                accept(row, request, sink, errors);
+            }
+        } catch (JsonProcessingException ex) {
+            // A structurally broken CSV cannot be resynchronised; keep what was read so far.
+            errors.add(row + 1, "Malformed CSV, import stopped");
+        }
+    }
+
+    private void accept(long row, TaskCreateRequest request, RowSink sink, Errors errors) throws IOException {
+        Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            errors.add(row, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        // PostgreSQL text cannot hold NUL, and inside COPY it would fail the whole import
+        String nulField = containsNul(request.title()) ? "title"
+                : containsNul(request.description()) ? "description"
+                : null;
+        if (nulField != null) {
+            errors.add(row, nulField + ": must not contain NUL characters");
+            return;
+        }
+        sink.write(row, request);
+    }
+
+    private static boolean containsNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private static ApiException importFailed(SQLException ex) {
+        if (ex.getSQLState() != null && ex.getSQLState().startsWith(DATA_EXCEPTION_CLASS)) {
+            return new BadRequestException("Import contains a value that cannot be stored");
+        }
+        logger.error("Task import failed", ex);
+        return new ServiceUnavailableException("Task import failed, try again later");
+    }
+
+    private void writeRow(Writer out, long row, TaskCreateRequest request) throws IOException {
+        out.write(Long.toString(row));
+        out.write(',');
+        writeField(out, request.title());
+        out.write(',');
+        writeField(out, request.description());
+        out.write(',');
+        out.write(Short.toString((request.status() == null ? TaskStatus.TODO : request.status()).code()));
+        out.write(',');
+        out.write(Short.toString((request.priority() == null ? TaskPriority.MED : request.priority()).code()));
+        out.write(',');
+        if (request.assigneeId() != null) {
+            out.write(request.assigneeId().toString());
+        }
+        out.write(',');
+        if (request.dueDate() != null) {
+            out.write(request.dueDate().toString());
+        }
+        out.write('\n');
+    }
+
+    private void writeField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private String describe(JsonProcessingException ex) {
+        if (ex instanceof MismatchedInputException mismatch && !mismatch.getPath().isEmpty()) {
+            return mismatch.getPath().get(0).getFieldName() + ": invalid value";
+        }
+        return "Malformed row";
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void write(long row, TaskCreateRequest request) throws IOException;
+    }
+
+    private static final class Errors {
+        private final Map<Long, String> reported = new LinkedHashMap<>();
+        private long count;
+
+        void add(long row, String error) {
+            count++;
+            if (reported.size() < MAX_REPORTED_ERRORS) {
+                reported.put(row, error);
+            }
+        }
+
+        TaskImportResult toResult(long imported) {
+            List<TaskImportResult.RowError> rows = new ArrayList<>(reported.size());
+            reported.forEach((row, error) -> rows.add(new TaskImportResult.RowError(row, error)));
+            rows.sort((a, b) -> Long.compare(a.row(), b.row()));
+            return new TaskImportResult(imported, count, rows, count > reported.size());
+        }
+    }
+}
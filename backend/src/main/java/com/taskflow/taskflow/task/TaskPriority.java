@@ -1,8 +1,30 @@
 package com.taskflow.taskflow.task;
 
+/**
+ * Stored as a {@code SMALLINT} code (see {@link TaskPriorityConverter}); codes increase with urgency so
+ * sorting by the column orders tasks by priority.
+ */
 public enum TaskPriority {
-    LOW,
-    MED,
-    HIGH
-}
+    LOW(1),
+    MED(2),
+    HIGH(3);
+
+    private final short code;
+
+    TaskPriority(int code) {
+        this.code = (short) code;
+    }
 
+    public short code() {
+        return code;
+    }
+
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
+}
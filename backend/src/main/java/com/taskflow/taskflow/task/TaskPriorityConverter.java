@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.task;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority attribute) {
+        return attribute == null ? null : attribute.code();
+    }
+
+    @Override
+    public TaskPriority convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : TaskPriority.fromCode(dbData);
+    }
+}
@@ -5,8 +5,21 @@ import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskSearchRepository {
     Optional<Task> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    @Query("select new com.taskflow.taskflow.task.TaskVersion(t.workspaceId, t.version) from Task t where t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") UUID id);
+
+    @Query(value = """
+            SELECT (SELECT coalesce(floor(extract(epoch FROM max(t.updated_at)) * 1000000), 0)::bigint
+                    FROM tasks t WHERE t.workspace_id = :workspaceId) AS lastUpdated,
+                   (SELECT coalesce(sum(c.task_count), 0)::bigint
+                    FROM task_counters c WHERE c.workspace_id = :workspaceId) AS total
+            """, nativeQuery = true)
+    TaskChangeMarker findChangeMarker(@Param("workspaceId") UUID workspaceId);
 }
 
@@ -0,0 +1,30 @@
+package com.taskflow.taskflow.task;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Read-only view of the generated {@code search_vector} column. Kept off {@link Task} so regular
+ * task loads never fetch the vector; it is only joined in when a full-text filter is applied.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks")
+public class TaskSearchDocument {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String searchVector;
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.task;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the Postgres full-text operators used by {@link TaskSpecifications#withFullTextSearch}.
+ * The match is rendered as the {@code @@} operator so the GIN index on {@code search_vector} applies.
+ */
+public class TaskSearchFunctions implements FunctionContributor {
+
+    static final String MATCHES = "task_search_matches";
+    static final String RANK = "task_search_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCHES,
+                "(?1 @@ websearch_to_tsquery('english', ?2))",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                RANK,
+                "ts_rank(?1, websearch_to_tsquery('english', ?2))",
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
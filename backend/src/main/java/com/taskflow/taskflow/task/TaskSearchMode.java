@@ -0,0 +1,6 @@
+package com.taskflow.taskflow.task;
+
+public enum TaskSearchMode {
+    FULLTEXT,
+    LIKE
+}
@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.task;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TaskSearchRepository {
+    Map<UUID, String> highlight(Collection<UUID> taskIds, String q);
+}
@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.task;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.web.util.HtmlUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Highlights with private-use delimiters (U+E000/U+E001, stripped from the text first) rather than
+ * {@code <mark>}, so the task text can be HTML-escaped before the delimiters become tags.
+ */
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private static final String START_SEL = "\uE000";
+    private static final String STOP_SEL = "\uE001";
+
+    private static final String HIGHLIGHT_SQL = """
+            SELECT t.id,
+                   ts_headline('english',
+                               translate(coalesce(t.title, '') || ' ' || coalesce(t.description, ''),
+                                         chr(57344) || chr(57345), ''),
+                               websearch_to_tsquery('english', :q),
+                               'StartSel=' || chr(57344) || ', StopSel=' || chr(57345)
+                                   || ', MaxFragments=2, MaxWords=20, MinWords=5')
+            FROM tasks t
+            WHERE t.id IN (:ids)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<UUID, String> highlight(Collection<UUID> taskIds, String q) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(HIGHLIGHT_SQL)
+                .setParameter("q", q)
+                .setParameter("ids", taskIds)
+                .getResultList();
+        Map<UUID, String> snippets = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            snippets.put((UUID) row[0], toHtml((String) row[1]));
+        }
+        return snippets;
+    }
+
+    static String toHtml(String headline) {
+        return HtmlUtils.htmlEscape(headline)
+                .replace(START_SEL, "<mark>")
+                .replace(STOP_SEL, "</mark>");
+    }
+}
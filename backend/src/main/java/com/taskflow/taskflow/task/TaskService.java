@@ -1,55 +1,106 @@
 package com.taskflow.taskflow.task;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.taskflow.taskflow.auth.CurrentUserService;
+import com.taskflow.taskflow.config.BadRequestException;
+import com.taskflow.taskflow.config.ConflictException;
+import com.taskflow.taskflow.config.ForbiddenException;
+import com.taskflow.taskflow.config.NotFoundException;
+import com.taskflow.taskflow.config.PreconditionFailedException;
+import com.taskflow.taskflow.event.WorkspaceEvent;
 import com.taskflow.taskflow.project.Project;
 import com.taskflow.taskflow.project.ProjectRepository;
+import com.taskflow.taskflow.task.dto.TaskBatchCreateRequest;
+import com.taskflow.taskflow.task.dto.TaskBatchResult;
+import com.taskflow.taskflow.task.dto.TaskBatchUpdateItem;
+import com.taskflow.taskflow.task.dto.TaskBatchUpdateRequest;
+import com.taskflow.taskflow.task.dto.TaskChangesResponse;
 import com.taskflow.taskflow.task.dto.TaskCreateRequest;
+import com.taskflow.taskflow.task.dto.TaskCursorPage;
+import com.taskflow.taskflow.task.dto.TaskImportResult;
 import com.taskflow.taskflow.task.dto.TaskResponse;
+import com.taskflow.taskflow.task.dto.TaskStatsResponse;
 import com.taskflow.taskflow.task.dto.TaskUpdateRequest;
 import com.taskflow.taskflow.workspace.WorkspaceAccessService;
 import com.taskflow.taskflow.workspace.WorkspaceRole;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 @Service
 public class TaskService {
 
     private static final int MAX_PAGE_SIZE = 100;
-    private static final Set<String> ALLOWED_SORT_FIELDS = new HashSet<>(
+    static final Set<String> ALLOWED_SORT_FIELDS = new HashSet<>(
             Arrays.asList("createdAt", "updatedAt", "dueDate", "priority", "status"));
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final WorkspaceAccessService workspaceAccessService;
     private final CurrentUserService currentUserService;
+    private final TaskExporter taskExporter;
+    private final TaskImporter taskImporter;
+    private final TaskCounterService taskCounterService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final boolean fullTextSearch;
 
     public TaskService(
             TaskRepository taskRepository,
             ProjectRepository projectRepository,
             WorkspaceAccessService workspaceAccessService,
-            CurrentUserService currentUserService) {
+            CurrentUserService currentUserService,
+            TaskExporter taskExporter,
+            TaskImporter taskImporter,
+            TaskCounterService taskCounterService,
+            TaskChangeFeed taskChangeFeed,
+            ApplicationEventPublisher eventPublisher,
+            Validator validator,
+            @Value("${app.tasks.search.mode}") TaskSearchMode searchMode) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.workspaceAccessService = workspaceAccessService;
         this.currentUserService = currentUserService;
+        this.taskExporter = taskExporter;
+        this.taskImporter = taskImporter;
+        this.taskCounterService = taskCounterService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.fullTextSearch = searchMode == TaskSearchMode.FULLTEXT;
     }
 
+    @Transactional
     public TaskResponse create(UUID projectId, TaskCreateRequest request) {
         UUID userId = currentUserService.requireUserId();
 
         Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found"));
+                .orElseThrow(() -> new NotFoundException("Project not found"));
         workspaceAccessService.requireRoleIn(
                 project.getWorkspaceId(),
                 userId,
@@ -57,21 +108,84 @@ public class TaskService {
                 WorkspaceRole.ADMIN,
                 WorkspaceRole.MEMBER);
 
-        Task task = new Task();
-        task.setWorkspaceId(project.getWorkspaceId());
-        task.setProjectId(projectId);
-        task.setTitle(request.title());
-        task.setDescription(request.description());
-        task.setStatus(request.status() == null ? TaskStatus.TODO : request.status());
-        task.setPriority(request.priority() == null ? TaskPriority.MED : request.priority());
-        task.setAssigneeId(request.assigneeId());
-        task.setCreatedBy(userId);
-        task.setDueDate(request.dueDate());
-
+        Task task = newTask(project, request, userId);
         taskRepository.save(task);
+        taskCounterService.created(task);
+        publish(WorkspaceEvent.Type.TASK_CREATED, task);
         return toResponse(task);
     }
 
+    @Transactional
+    public List<TaskBatchResult> createBatch(UUID projectId, TaskBatchCreateRequest request) {
+        UUID userId = currentUserService.requireUserId();
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+        workspaceAccessService.requireRoleIn(
+                project.getWorkspaceId(),
+                userId,
+                WorkspaceRole.OWNER,
+                WorkspaceRole.ADMIN,
+                WorkspaceRole.MEMBER);
+
+        List<TaskBatchResult> results = new ArrayList<>(request.items().size());
+        List<Task> created = new ArrayList<>();
+        List<Integer> createdIndexes = new ArrayList<>();
+        for (int i = 0; i < request.items().size(); i++) {
+            TaskCreateRequest item = request.items().get(i);
+            String error = violations(item);
+            if (error != null) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.BAD_REQUEST, error));
+                continue;
+            }
+            created.add(newTask(project, item, userId));
+            createdIndexes.add(i);
+            results.add(null);
+        }
+
+        taskRepository.saveAll(created);
+        taskRepository.flush();
+        created.forEach(taskCounterService::created);
+        if (!created.isEmpty()) {
+            // One event per batch: a batch can outgrow a subscriber's buffer.
+            eventPublisher.publishEvent(WorkspaceEvent.task(WorkspaceEvent.Type.TASKS_CREATED, project.getWorkspaceId(), null));
+        }
+        for (int i = 0; i < created.size(); i++) {
+            int index = createdIndexes.get(i);
+            results.set(index, TaskBatchResult.ok(index, toResponse(created.get(i))));
+        }
+        return results;
+    }
+
+    public TaskImportResult importTasks(UUID projectId, TaskDataFormat format, InputStream body) {
+        UUID userId = currentUserService.requireUserId();
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+        workspaceAccessService.requireRoleIn(project.getWorkspaceId(), userId, WorkspaceRole.OWNER, WorkspaceRole.ADMIN);
+
+        TaskImportResult result = taskImporter.load(project.getWorkspaceId(), projectId, userId, format, body);
+        if (result.imported() > 0) {
+            eventPublisher.publishEvent(WorkspaceEvent.task(WorkspaceEvent.Type.TASKS_IMPORTED, project.getWorkspaceId(), null));
+        }
+        return result;
+    }
+
+    /**
+     * Weak validator for every offset page of the workspace's task list. Read before the page itself, so a
+     * concurrent write can only make it older than the content, which costs the client one extra refetch.
+     */
+    @Transactional(readOnly = true)
+    public String listETag(UUID workspaceId) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+
+        TaskChangeMarker marker = taskRepository.findChangeMarker(workspaceId);
+        return TaskETags.weak(marker.getLastUpdated(), marker.getTotal());
+    }
+
+    @Timed(value = "task.list", histogram = true)
+    @Transactional(readOnly = true)
     public Page<TaskResponse> list(
             UUID workspaceId,
             TaskStatus status,
@@ -80,33 +194,108 @@ public class TaskService {
             String q,
             int page,
             int size,
-            String sort) {
+            String sort,
+            boolean highlight) {
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireMember(workspaceId, userId);
 
+        boolean rankOrdered = fullTextSearch && isSearch(q) && (sort == null || sort.isBlank());
         int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
-        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), safeSize, parseSort(sort));
+        PageRequest pageRequest = PageRequest.of(
+                Math.max(page, 0),
+                safeSize,
+                rankOrdered ? Sort.unsorted() : parseSort(sort));
 
-        Specification<Task> spec = Specification.where(TaskSpecifications.forWorkspace(workspaceId));
-        if (status != null) {
-            spec = spec.and(TaskSpecifications.withStatus(status));
-        }
-        if (priority != null) {
-            spec = spec.and(TaskSpecifications.withPriority(priority));
-        }
-        if (assigneeId != null) {
-            spec = spec.and(TaskSpecifications.withAssignee(assigneeId));
-        }
-        if (q != null && !q.isBlank()) {
-            spec = spec.and(TaskSpecifications.withSearch(q));
+        Specification<Task> spec = filterSpec(workspaceId, status, priority, assigneeId, q, rankOrdered);
+        Page<Task> tasks = taskRepository.findAll(spec, pageRequest);
+        Map<UUID, String> snippets = snippets(tasks.getContent(), q, highlight);
+        return tasks.map(task -> toResponse(task, snippets.get(task.getId())));
+    }
+
+    @Timed(value = "task.list", histogram = true)
+    @Transactional(readOnly = true)
+    public TaskCursorPage listByCursor(
+            UUID workspaceId,
+            TaskStatus status,
+            TaskPriority priority,
+            UUID assigneeId,
+            String q,
+            String cursor,
+            int size,
+            String sort,
+            boolean highlight) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Sort keyset = parseSort(sort);
+        Sort.Order order = keyset.iterator().next();
+
+        Specification<Task> spec = filterSpec(workspaceId, status, priority, assigneeId, q, false);
+        if (cursor != null && !cursor.isBlank()) {
+            TaskCursor position = TaskCursor.decode(cursor);
+            if (!position.matches(order)) {
+                throw new BadRequestException("Cursor does not match sort");
+            }
+            spec = spec.and(TaskSpecifications.after(position));
         }
 
-        return taskRepository.findAll(spec, pageRequest).map(this::toResponse);
+        List<Task> rows = taskRepository.findBy(spec, query -> query.sortBy(keyset).limit(safeSize + 1).all());
+
+        boolean hasNext = rows.size() > safeSize;
+        List<Task> pageRows = hasNext ? rows.subList(0, safeSize) : rows;
+        String nextCursor = hasNext ? TaskCursor.after(pageRows.get(pageRows.size() - 1), order).encode() : null;
+        Map<UUID, String> snippets = snippets(pageRows, q, highlight);
+        List<TaskResponse> content = pageRows.stream()
+                .map(task -> toResponse(task, snippets.get(task.getId())))
+                .toList();
+        return new TaskCursorPage(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskStatsResponse stats(UUID workspaceId, UUID projectId) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+
+        return taskCounterService.stats(workspaceId, projectId);
     }
 
+    @Transactional(readOnly = true)
+    public TaskChangesResponse changes(UUID workspaceId, String since, int size) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+
+        return taskChangeFeed.changes(workspaceId, since, size);
+    }
+
+    public StreamingResponseBody export(
+            UUID workspaceId,
+            TaskStatus status,
+            TaskPriority priority,
+            UUID assigneeId,
+            String q,
+            TaskDataFormat format) {
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(workspaceId, userId);
+
+        return taskExporter.export(filterSpec(workspaceId, status, priority, assigneeId, q, false), format);
+    }
+
+    @Transactional(readOnly = true)
+    public String eTag(UUID taskId) {
+        TaskVersion current = taskRepository.findVersionById(taskId)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+
+        UUID userId = currentUserService.requireUserId();
+        workspaceAccessService.requireMember(current.workspaceId(), userId);
+
+        return TaskETags.strong(taskId, current.version());
+    }
+
+    @Transactional(readOnly = true)
     public TaskResponse get(UUID taskId) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+                .orElseThrow(() -> new NotFoundException("Task not found"));
 
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireMember(task.getWorkspaceId(), userId);
@@ -114,21 +303,101 @@ public class TaskService {
         return toResponse(task);
     }
 
-    public TaskResponse update(UUID taskId, TaskUpdateRequest request) {
+    @Transactional
+    public TaskResponse update(UUID taskId, TaskUpdateRequest request, String ifMatch) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+                .orElseThrow(() -> new NotFoundException("Task not found"));
 
         UUID userId = currentUserService.requireUserId();
         WorkspaceRole role = workspaceAccessService.requireRole(task.getWorkspaceId(), userId);
+        if (!canEdit(role, userId, task)) {
+            throw new ForbiddenException("Forbidden");
+        }
+        if (ifMatch != null && !TaskETags.matches(ifMatch, TaskETags.strong(task.getId(), task.getVersion()))) {
+            throw new PreconditionFailedException("Task has been modified");
+        }
+
+        TaskCounterId before = TaskCounterId.of(task);
+        applyChanges(task, request);
+        try {
+            taskRepository.saveAndFlush(task);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw ifMatch != null
+                    ? new PreconditionFailedException("Task has been modified")
+                    : new ConflictException("Task has been modified");
+        }
+        taskCounterService.moved(before, task);
+        publish(WorkspaceEvent.Type.TASK_UPDATED, task);
+        return toResponse(task);
+    }
+
+    @Transactional
+    public List<TaskBatchResult> updateBatch(UUID workspaceId, TaskBatchUpdateRequest request) {
+        UUID userId = currentUserService.requireUserId();
+        WorkspaceRole role = workspaceAccessService.requireRole(workspaceId, userId);
         if (role == WorkspaceRole.VIEWER) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden");
+            throw new ForbiddenException("Forbidden");
         }
-        if (role == WorkspaceRole.MEMBER
-                && !userId.equals(task.getCreatedBy())
-                && (task.getAssigneeId() == null || !userId.equals(task.getAssigneeId()))) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden");
+
+        Set<UUID> ids = request.items().stream()
+                .filter(item -> item != null && item.id() != null)
+                .map(TaskBatchUpdateItem::id)
+                .collect(Collectors.toSet());
+        Map<UUID, Task> tasks = taskRepository.findAllById(ids).stream()
+                .filter(task -> workspaceId.equals(task.getWorkspaceId()))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBatchResult> results = new ArrayList<>(request.items().size());
+        Map<Integer, Task> updated = new LinkedHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < request.items().size(); i++) {
+            TaskBatchUpdateItem item = request.items().get(i);
+            String error = violations(item);
+            if (error != null) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.BAD_REQUEST, error));
+                continue;
+            }
+            if (!seen.add(item.id())) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.BAD_REQUEST, "Duplicate task id"));
+                continue;
+            }
+            Task task = tasks.get(item.id());
+            if (task == null) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.NOT_FOUND, "Task not found"));
+                continue;
+            }
+            if (!canEdit(role, userId, task)) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.FORBIDDEN, "Forbidden"));
+                continue;
+            }
+            if (task.getVersion() != item.version()) {
+                results.add(TaskBatchResult.failed(i, HttpStatus.CONFLICT, "Version mismatch"));
+                continue;
+            }
+            TaskCounterId before = TaskCounterId.of(task);
+            applyChanges(task, item.changes());
+            taskCounterService.moved(before, task);
+            updated.put(i, task);
+            results.add(null);
         }
 
+        try {
+            taskRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new ConflictException("Tasks were modified concurrently");
+        }
+        updated.forEach((index, task) -> results.set(index, TaskBatchResult.ok(index, toResponse(task))));
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(WorkspaceEvent.task(WorkspaceEvent.Type.TASKS_UPDATED, workspaceId, null));
+        }
+        return results;
+    }
+
+    private void publish(WorkspaceEvent.Type type, Task task) {
+        eventPublisher.publishEvent(WorkspaceEvent.task(type, task.getWorkspaceId(), task.getId()));
+    }
+
+    private void applyChanges(Task task, TaskUpdateRequest request) {
         if (request.title() != null) {
             task.setTitle(request.title());
         }
@@ -147,38 +416,119 @@ public class TaskService {
         if (request.dueDate() != null) {
             task.setDueDate(request.dueDate());
         }
-
-        taskRepository.save(task);
-        return toResponse(task);
     }
 
+    @Transactional
     public void delete(UUID taskId) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+                .orElseThrow(() -> new NotFoundException("Task not found"));
 
         UUID userId = currentUserService.requireUserId();
         workspaceAccessService.requireRoleIn(task.getWorkspaceId(), userId, WorkspaceRole.OWNER, WorkspaceRole.ADMIN);
 
         taskRepository.delete(task);
+        taskCounterService.deleted(task);
+        taskChangeFeed.recordDeletion(task);
+        publish(WorkspaceEvent.Type.TASK_DELETED, task);
+    }
+
+    private Task newTask(Project project, TaskCreateRequest request, UUID userId) {
+        Task task = new Task();
+        task.setWorkspaceId(project.getWorkspaceId());
+        task.setProjectId(project.getId());
+        task.setTitle(request.title());
+        task.setDescription(request.description());
+        task.setStatus(request.status() == null ? TaskStatus.TODO : request.status());
+        task.setPriority(request.priority() == null ? TaskPriority.MED : request.priority());
+        task.setAssigneeId(request.assigneeId());
+        task.setCreatedBy(userId);
+        task.setDueDate(request.dueDate());
+        return task;
+    }
+
+    private boolean canEdit(WorkspaceRole role, UUID userId, Task task) {
+        if (role == WorkspaceRole.VIEWER) {
+            return false;
+        }
+        return role != WorkspaceRole.MEMBER
+                || userId.equals(task.getCreatedBy())
+                || userId.equals(task.getAssigneeId());
     }
 
-    private Sort parseSort(String sort) {
-        if (sort == null || sort.isBlank()) {
-            return Sort.by(Sort.Direction.DESC, "createdAt");
+    private String violations(Object item) {
+        if (item == null) {
+            return "Item is required";
         }
-        String[] parts = sort.split(",", 2);
-        String field = parts[0].trim();
-        if (!ALLOWED_SORT_FIELDS.contains(field)) {
-            return Sort.by(Sort.Direction.DESC, "createdAt");
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
         }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Specification<Task> filterSpec(
+            UUID workspaceId,
+            TaskStatus status,
+            TaskPriority priority,
+            UUID assigneeId,
+            String q,
+            boolean rankOrdered) {
+        Specification<Task> spec = Specification.where(TaskSpecifications.forWorkspace(workspaceId));
+        if (status != null) {
+            spec = spec.and(TaskSpecifications.withStatus(status));
+        }
+        if (priority != null) {
+            spec = spec.and(TaskSpecifications.withPriority(priority));
+        }
+        if (assigneeId != null) {
+            spec = spec.and(TaskSpecifications.withAssignee(assigneeId));
+        }
+        if (isSearch(q)) {
+            spec = spec.and(fullTextSearch
+                    ? TaskSpecifications.withFullTextSearch(q, rankOrdered)
+                    : TaskSpecifications.withSearch(q));
+        }
+        return spec;
+    }
+
+    private boolean isSearch(String q) {
+        return q != null && !q.isBlank();
+    }
+
+    private Map<UUID, String> snippets(List<Task> tasks, String q, boolean highlight) {
+        if (!highlight || !fullTextSearch || !isSearch(q)) {
+            return Map.of();
+        }
+        return taskRepository.highlight(tasks.stream().map(Task::getId).toList(), q.trim());
+    }
+
+    /**
+     * The requested order plus {@code id} in the same direction, so offset pages are stable and the
+     * {@code (workspace_id, <key>, id)} indexes can return rows already sorted.
+     */
+    static Sort parseSort(String sort) {
+        String field = "createdAt";
         Sort.Direction direction = Sort.Direction.DESC;
-        if (parts.length == 2 && "asc".equalsIgnoreCase(parts[1].trim())) {
-            direction = Sort.Direction.ASC;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",", 2);
+            if (ALLOWED_SORT_FIELDS.contains(parts[0].trim())) {
+                field = parts[0].trim();
+                if (parts.length == 2 && "asc".equalsIgnoreCase(parts[1].trim())) {
+                    direction = Sort.Direction.ASC;
+                }
+            }
         }
-        return Sort.by(direction, field);
+        return Sort.by(new Sort.Order(direction, field), new Sort.Order(direction, "id"));
     }
 
     private TaskResponse toResponse(Task task) {
+        return toResponse(task, null);
+    }
+
+    static TaskResponse toResponse(Task task, String snippet) {
         return new TaskResponse(
                 task.getId(),
                 task.getWorkspaceId(),
@@ -192,7 +542,8 @@ public class TaskService {
                 task.getDueDate(),
                 task.getVersion(),
                 task.getCreatedAt(),
-                task.getUpdatedAt());
+                task.getUpdatedAt(),
+                snippet);
     }
 }
 
@@ -1,9 +1,17 @@
 package com.taskflow.taskflow.task;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.query.criteria.JpaRoot;
 import org.springframework.data.jpa.domain.Specification;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
 public final class TaskSpecifications {
@@ -47,5 +55,68 @@ public final class TaskSpecifications {
             return cb.or(title, description);
         };
     }
-}
 
+    /**
+     * Postgres full-text match against the GIN-indexed {@code search_vector}. When {@code orderByRank}
+     * is set, results are ordered by {@code ts_rank} (then id); count queries are left unordered.
+     */
+    public static Specification<Task> withFullTextSearch(String q, boolean orderByRank) {
+        if (q == null || q.isBlank()) {
+            return null;
+        }
+        String terms = q.trim();
+        return (root, query, cb) -> {
+            JpaEntityJoin<TaskSearchDocument> document = ((JpaRoot<Task>) root).join(TaskSearchDocument.class);
+            document.on(cb.equal(document.get("id"), root.get("id")));
+            Expression<String> vector = document.get("searchVector");
+            // Bound rather than literal, so every search shares one SQL string in the statement caches.
+            Expression<String> tsQuery = ((HibernateCriteriaBuilder) cb).value(terms);
+
+            if (orderByRank && query.getResultType() != Long.class) {
+                Expression<Double> rank = cb.function(TaskSearchFunctions.RANK, Double.class, vector, tsQuery);
+                List<Order> orders = List.of(cb.desc(rank), cb.asc(root.get("id")));
+                query.orderBy(orders);
+            }
+            return cb.isTrue(cb.function(TaskSearchFunctions.MATCHES, Boolean.class, vector, tsQuery));
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in (sort key, id) order. The redundant inclusive bound on the
+     * sort key lets Postgres start an index range scan at the cursor instead of filtering from the top.
+     * Null keys follow Postgres defaults: last when ascending, first when descending.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> key = root.get(cursor.field());
+            boolean ascending = cursor.direction().isAscending();
+            Predicate idBeyond = beyond(cb, root.<UUID>get("id"), cursor.id(), ascending);
+
+            if (cursor.value() == null) {
+                Predicate sameKey = cb.and(cb.isNull(key), idBeyond);
+                return ascending ? sameKey : cb.or(sameKey, cb.isNotNull(key));
+            }
+
+            Predicate keyset = cb.and(
+                    ascending ? cb.greaterThanOrEqualTo(key, value(cursor)) : cb.lessThanOrEqualTo(key, value(cursor)),
+                    cb.or(beyond(cb, key, value(cursor), ascending), idBeyond));
+            if (cursor.nullableKey() && ascending) {
+                return cb.or(keyset, cb.isNull(key));
+            }
+            return keyset;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> value(TaskCursor cursor) {
+        return (Comparable<Object>) cursor.value();
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(
+            CriteriaBuilder cb,
+            Expression<? extends Y> expression,
+            Y value,
+            boolean ascending) {
+        return ascending ? cb.greaterThan(expression, value) : cb.lessThan(expression, value);
+    }
+}
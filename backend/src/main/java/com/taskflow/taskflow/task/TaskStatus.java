@@ -1,8 +1,29 @@
 package com.taskflow.taskflow.task;
 
+/**
+ * Stored as a {@code SMALLINT} code (see {@link TaskStatusConverter}) in workflow order.
+ */
 public enum TaskStatus {
-    TODO,
-    IN_PROGRESS,
-    DONE
-}
+    TODO(1),
+    IN_PROGRESS(2),
+    DONE(3);
+
+    private final short code;
+
+    TaskStatus(int code) {
+        this.code = (short) code;
+    }
 
+    public short code() {
+        return code;
+    }
+
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.task;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TaskStatusConverter implements AttributeConverter<TaskStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus attribute) {
+        return attribute == null ? null : attribute.code();
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : TaskStatus.fromCode(dbData);
+    }
+}
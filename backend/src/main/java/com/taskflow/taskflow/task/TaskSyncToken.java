@@ -0,0 +1,66 @@
+package com.taskflow.taskflow.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.taskflow.taskflow.config.BadRequestException;
+import com.taskflow.taskflow.config.GoneException;
+
+/**
+ * Position in a workspace's change feed: the (change_xid, id) of the last delivered change, plus when the
+ * token was issued so expiry can be judged against tombstone retention. Encoded as an opaque URL-safe
+ * string; {@link #START} means "from the beginning".
+ */
+public record TaskSyncToken(long xid, UUID id, Instant issuedAt) {
+
+    public static final TaskSyncToken START = new TaskSyncToken(0, new UUID(0, 0), Instant.EPOCH);
+
+    private static final String VERSION = "v2";
+    private static final String LEGACY_VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static TaskSyncToken decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return START;
+        }
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            parts = raw.split("\\" + SEPARATOR, 4);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid sync token");
+        }
+        // v1 tokens were positioned by updated_at, which cannot be mapped onto transaction ids.
+        if (LEGACY_VERSION.equals(parts[0])) {
+            throw new GoneException("Sync token expired");
+        }
+        try {
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed token");
+            }
+            return new TaskSyncToken(
+                    Long.parseLong(parts[1]),
+                    UUID.fromString(parts[2]),
+                    Instant.EPOCH.plus(Long.parseLong(parts[3]), ChronoUnit.MICROS));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+
+    public static TaskSyncToken after(TaskChangeRow row, Instant issuedAt) {
+        return new TaskSyncToken(row.getChangeXid(), row.getId(), issuedAt);
+    }
+
+    public TaskSyncToken reissue(Instant issuedAt) {
+        return new TaskSyncToken(xid, id, issuedAt);
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + xid + SEPARATOR + id + SEPARATOR
+                + ChronoUnit.MICROS.between(Instant.EPOCH, issuedAt);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflow.taskflow.task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "task_tombstones")
+public class TaskTombstone {
+
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private UUID workspaceId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    protected TaskTombstone() {
+    }
+
+    public TaskTombstone(Task task, Instant deletedAt) {
+        this.taskId = task.getId();
+        this.workspaceId = task.getWorkspaceId();
+        this.projectId = task.getProjectId();
+        this.deletedAt = deletedAt;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public UUID getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
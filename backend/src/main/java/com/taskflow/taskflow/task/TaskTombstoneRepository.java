@@ -0,0 +1,53 @@
+package com.taskflow.taskflow.task;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+
+    /**
+     * Live tasks and tombstones of a workspace after the (xid, id) position, merged in (change_xid, id) order.
+     * Only rows written by transactions older than the oldest one still running are returned: those can no
+     * longer be joined by a late commit. {@code changed_at} is returned as epoch microseconds.
+     */
+    @Query(value = """
+            WITH horizon AS (
+                SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin,
+                       CAST(CAST(:xid AS text) AS xid8) AS after_xid
+            )
+            SELECT c.id AS id,
+                   CAST(CAST(c.change_xid AS text) AS bigint) AS changeXid,
+                   (extract(epoch FROM c.changed_ts) * 1000000)::bigint AS changedAt,
+                   c.deleted AS deleted
+            FROM (
+                SELECT t.id, t.change_xid, t.updated_at AS changed_ts, false AS deleted
+                FROM tasks t, horizon h
+                WHERE t.workspace_id = :workspaceId
+                  AND (t.change_xid, t.id) > (h.after_xid, :id)
+                  AND t.change_xid < h.xmin
+                UNION ALL
+                SELECT d.task_id, d.change_xid, d.deleted_at, true
+                FROM task_tombstones d, horizon h
+                WHERE d.workspace_id = :workspaceId
+                  AND (d.change_xid, d.task_id) > (h.after_xid, :id)
+                  AND d.change_xid < h.xmin
+            ) c
+            ORDER BY c.change_xid, c.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TaskChangeRow> findChanges(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("xid") long xid,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int purgeBefore(@Param("cutoff") Instant cutoff);
+}
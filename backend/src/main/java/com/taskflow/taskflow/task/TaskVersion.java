@@ -0,0 +1,6 @@
+package com.taskflow.taskflow.task;
+
+import java.util.UUID;
+
+public record TaskVersion(UUID workspaceId, long version) {
+}
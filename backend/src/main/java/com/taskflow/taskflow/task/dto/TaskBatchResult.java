@@ -0,0 +1,22 @@
+package com.taskflow.taskflow.task.dto;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBatchResult(
+        int index,
+        int status,
+        TaskResponse task,
+        String error
+) {
+
+    public static TaskBatchResult ok(int index, TaskResponse task) {
+        return new TaskBatchResult(index, 200, task, null);
+    }
+
+    public static TaskBatchResult failed(int index, HttpStatus status, String error) {
+        return new TaskBatchResult(index, status.value(), null, error);
+    }
+}
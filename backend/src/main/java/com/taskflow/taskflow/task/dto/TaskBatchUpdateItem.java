@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBatchUpdateItem(
+        @NotNull UUID id,
+        @NotNull Long version,
+        @NotNull @Valid TaskUpdateRequest changes
+) {
+}
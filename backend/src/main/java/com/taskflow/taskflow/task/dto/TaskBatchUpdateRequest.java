@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TaskBatchUpdateRequest(
+        @NotEmpty @Size(max = 1000) List<TaskBatchUpdateItem> items
+) {
+}
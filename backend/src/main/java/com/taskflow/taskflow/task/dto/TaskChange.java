@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskChange(
+        Type type,
+        UUID id,
+        Instant changedAt,
+        TaskResponse task
+) {
+
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+public record TaskChangesResponse(
+        List<TaskChange> changes,
+        String nextToken,
+        boolean hasMore
+) {
+}
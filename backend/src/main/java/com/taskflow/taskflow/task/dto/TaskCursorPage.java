@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+public record TaskCursorPage(
+        List<TaskResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
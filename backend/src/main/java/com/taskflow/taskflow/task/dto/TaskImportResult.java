@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+public record TaskImportResult(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    public record RowError(long row, String error) {
+    }
+}
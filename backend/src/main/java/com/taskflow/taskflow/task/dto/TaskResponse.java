@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskflow.taskflow.task.TaskPriority;
 import com.taskflow.taskflow.task.TaskStatus;
 
@@ -20,7 +21,8 @@ public record TaskResponse(
         LocalDate dueDate,
         long version,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String snippet
 ) {
 }
 
@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.Map;
+
+import com.taskflow.taskflow.task.TaskPriority;
+import com.taskflow.taskflow.task.TaskStatus;
+
+public record TaskStatsResponse(
+        long total,
+        Map<TaskStatus, Long> byStatus,
+        Map<TaskPriority, Long> byPriority
+) {
+}
@@ -3,10 +3,12 @@ package com.taskflow.taskflow.user;
 import java.time.Instant;
 import java.util.UUID;
 
-import org.hibernate.annotations.UuidGenerator;
+import com.taskflow.taskflow.auth.jwt.PrincipalCacheEvictionListener;
+import com.taskflow.taskflow.persistence.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -14,10 +16,11 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalCacheEvictionListener.class)
 public class User {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
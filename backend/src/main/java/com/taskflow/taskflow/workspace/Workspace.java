@@ -3,7 +3,7 @@ package com.taskflow.taskflow.workspace;
 import java.time.Instant;
 import java.util.UUID;
 
-import org.hibernate.annotations.UuidGenerator;
+import com.taskflow.taskflow.persistence.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,7 +17,7 @@ import jakarta.persistence.Table;
 public class Workspace {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
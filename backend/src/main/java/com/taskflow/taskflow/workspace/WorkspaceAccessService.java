@@ -1,39 +1,139 @@
 package com.taskflow.taskflow.workspace;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.taskflow.config.ForbiddenException;
+import com.taskflow.taskflow.config.NotFoundException;
+import com.taskflow.taskflow.event.ClusterMessage;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
 public class WorkspaceAccessService {
 
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    // Empty optionals are cached too, so probes of foreign workspaces stay cheap.
+    private final Cache<WorkspaceMemberId, Optional<WorkspaceRole>> roles;
 
-    public WorkspaceAccessService(WorkspaceMemberRepository workspaceMemberRepository) {
+    public WorkspaceAccessService(
+            WorkspaceMemberRepository workspaceMemberRepository,
+            @Value("${app.workspaces.role-cache.max-size}") long maxSize,
+            @Value("${app.workspaces.role-cache.ttl-seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher) {
         this.workspaceMemberRepository = workspaceMemberRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roles, "workspace.roles");
     }
 
+    @Timed(value = "workspace.access.check", histogram = true)
     public WorkspaceRole requireRole(UUID workspaceId, UUID userId) {
-        return workspaceMemberRepository.findByIdWorkspaceIdAndIdUserId(workspaceId, userId)
-                .map(WorkspaceMember::getRole)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+        return findRole(workspaceId, userId)
+                .orElseThrow(() -> new NotFoundException("Workspace not found"));
     }
 
+    @Timed(value = "workspace.access.check", histogram = true)
     public void requireMember(UUID workspaceId, UUID userId) {
         requireRole(workspaceId, userId);
     }
 
+    @Timed(value = "workspace.access.check", histogram = true)
     public void requireRoleIn(UUID workspaceId, UUID userId, WorkspaceRole... allowed) {
         WorkspaceRole role = requireRole(workspaceId, userId);
         Set<WorkspaceRole> allowedSet = new HashSet<>(Arrays.asList(allowed));
         if (!allowedSet.contains(role)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden");
+            throw new ForbiddenException("Forbidden");
+        }
+    }
+
+    /**
+     * Drops the cached role for a membership that was just written. Inside a transaction the entry is
+     * dropped again after commit so a concurrent lookup cannot re-cache the pre-commit state. Other nodes
+     * are told to evict as well, after commit, since this runs from JPA callbacks during a flush.
+     */
+    public void evict(UUID workspaceId, UUID userId) {
+        evictLocal(workspaceId, userId);
+        ClusterMessage message = ClusterMessage.membershipChanged(workspaceId, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(message);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(message);
+        }
+    }
+
+    public void evictLocal(UUID workspaceId, UUID userId) {
+        WorkspaceMemberId key = new WorkspaceMemberId(workspaceId, userId);
+        roles.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    roles.invalidate(key);
+                }
+            });
         }
     }
-}
 
+    public void evictAll() {
+        roles.invalidateAll();
+    }
+
+    private Optional<WorkspaceRole> findRole(UUID workspaceId, UUID userId) {
+        WorkspaceMemberId key = new WorkspaceMemberId(workspaceId, userId);
+        Optional<WorkspaceRole> cached = roles.getIfPresent(key);
+        recordLookup(cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        return roles.get(key, id -> workspaceMemberRepository
+                .findByIdWorkspaceIdAndIdUserId(id.getWorkspaceId(), id.getUserId())
+                .map(WorkspaceMember::getRole));
+    }
+
+    private void recordLookup(boolean hit) {
+        meterRegistry.counter(
+                        "workspace.roles.lookups",
+                        "result", hit ? "hit" : "miss",
+                        "uri", currentRoute())
+                .increment();
+    }
+
+    private String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object pattern = attributes == null
+                ? null
+                : attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? "none" : pattern.toString();
+    }
+}
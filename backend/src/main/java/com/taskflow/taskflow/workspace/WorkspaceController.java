@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskflow.taskflow.workspace.dto.WorkspaceCreateRequest;
@@ -33,8 +34,10 @@ public class WorkspaceController {
     }
 
     @GetMapping
-    public List<WorkspaceResponse> listMine() {
-        return workspaceService.listMyWorkspaces();
+    public List<WorkspaceResponse> listMine(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size) {
+        return workspaceService.listMyWorkspaces(page, size);
     }
 
     @GetMapping("/{id}")
@@ -3,7 +3,12 @@ package com.taskflow.taskflow.workspace;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskflow.taskflow.workspace.dto.WorkspaceResponse;
 
 public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, WorkspaceMemberId> {
     boolean existsByIdWorkspaceIdAndIdUserId(UUID workspaceId, UUID userId);
@@ -11,5 +16,13 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
     List<WorkspaceMember> findAllByIdUserId(UUID userId);
 
     java.util.Optional<WorkspaceMember> findByIdWorkspaceIdAndIdUserId(UUID workspaceId, UUID userId);
-}
 
+    @Query("""
+            select new com.taskflow.taskflow.workspace.dto.WorkspaceResponse(w.id, w.name, m.role)
+            from WorkspaceMember m
+            join Workspace w on w.id = m.id.workspaceId
+            where m.id.userId = :userId
+            order by w.name, w.id
+            """)
+    List<WorkspaceResponse> findWorkspacesForUser(@Param("userId") UUID userId, Pageable pageable);
+}
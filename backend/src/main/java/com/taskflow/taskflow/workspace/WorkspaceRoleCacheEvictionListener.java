@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.workspace;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+@Component
+public class WorkspaceRoleCacheEvictionListener {
+
+    private final WorkspaceAccessService workspaceAccessService;
+
+    public WorkspaceRoleCacheEvictionListener(WorkspaceAccessService workspaceAccessService) {
+        this.workspaceAccessService = workspaceAccessService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onMembershipChanged(WorkspaceMember member) {
+        workspaceAccessService.evict(member.getId().getWorkspaceId(), member.getId().getUserId());
+    }
+}
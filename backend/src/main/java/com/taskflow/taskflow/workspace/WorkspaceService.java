@@ -2,32 +2,39 @@ package com.taskflow.taskflow.workspace;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskflow.taskflow.auth.CurrentUserService;
+import com.taskflow.taskflow.config.NotFoundException;
 import com.taskflow.taskflow.workspace.dto.WorkspaceCreateRequest;
 import com.taskflow.taskflow.workspace.dto.WorkspaceResponse;
 
 @Service
 public class WorkspaceService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final CurrentUserService currentUserService;
+    private final WorkspaceAccessService workspaceAccessService;
 
     public WorkspaceService(
             WorkspaceRepository workspaceRepository,
             WorkspaceMemberRepository workspaceMemberRepository,
-            CurrentUserService currentUserService) {
+            CurrentUserService currentUserService,
+            WorkspaceAccessService workspaceAccessService) {
         this.workspaceRepository = workspaceRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.currentUserService = currentUserService;
+        this.workspaceAccessService = workspaceAccessService;
     }
 
+    @Transactional
     public WorkspaceResponse createWorkspace(WorkspaceCreateRequest request) {
         UUID userId = currentUserService.requireUserId();
 
@@ -41,28 +48,26 @@ public class WorkspaceService {
         member.setRole(WorkspaceRole.OWNER);
         workspaceMemberRepository.save(member);
 
-        return new WorkspaceResponse(workspace.getId(), workspace.getName());
+        return new WorkspaceResponse(workspace.getId(), workspace.getName(), WorkspaceRole.OWNER);
     }
 
-    public List<WorkspaceResponse> listMyWorkspaces() {
+    @Transactional(readOnly = true)
+    public List<WorkspaceResponse> listMyWorkspaces(Integer page, int size) {
         UUID userId = currentUserService.requireUserId();
-        return workspaceMemberRepository.findAllByIdUserId(userId).stream()
-                .map(member -> workspaceRepository.findById(member.getId().getWorkspaceId())
-                        .orElse(null))
-                .filter(workspace -> workspace != null)
-                .map(workspace -> new WorkspaceResponse(workspace.getId(), workspace.getName()))
-                .collect(Collectors.toList());
+        Pageable pageable = page == null
+                ? Pageable.unpaged()
+                : PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return workspaceMemberRepository.findWorkspacesForUser(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public WorkspaceResponse getWorkspace(UUID workspaceId) {
         UUID userId = currentUserService.requireUserId();
-        if (!workspaceMemberRepository.existsByIdWorkspaceIdAndIdUserId(workspaceId, userId)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found");
-        }
+        WorkspaceRole role = workspaceAccessService.requireRole(workspaceId, userId);
 
         Workspace workspace = workspaceRepository.findById(workspaceId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
-        return new WorkspaceResponse(workspace.getId(), workspace.getName());
+                .orElseThrow(() -> new NotFoundException("Workspace not found"));
+        return new WorkspaceResponse(workspace.getId(), workspace.getName(), role);
     }
 }
 
@@ -2,6 +2,7 @@ package com.taskflow.taskflow.workspace.dto;
 
 import java.util.UUID;
 
-public record WorkspaceResponse(UUID id, String name) {
-}
+import com.taskflow.taskflow.workspace.WorkspaceRole;
 
+public record WorkspaceResponse(UUID id, String name, WorkspaceRole role) {
+}
@@ -0,0 +1 @@
+CREATE INDEX tasks_workspace_updated_at_idx ON tasks(workspace_id, updated_at);
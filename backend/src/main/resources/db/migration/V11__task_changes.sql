@@ -0,0 +1,12 @@
+CREATE INDEX tasks_workspace_updated_at_id_idx ON tasks(workspace_id, updated_at, id);
+DROP INDEX tasks_workspace_updated_at_idx;
+
+CREATE TABLE task_tombstones (
+    task_id UUID PRIMARY KEY,
+    workspace_id UUID NOT NULL REFERENCES workspaces(id) ON DELETE CASCADE,
+    project_id UUID NOT NULL,
+    deleted_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX task_tombstones_workspace_deleted_at_idx ON task_tombstones(workspace_id, deleted_at, task_id);
+CREATE INDEX task_tombstones_deleted_at_idx ON task_tombstones(deleted_at);
@@ -0,0 +1,20 @@
+-- status: TODO = 1, IN_PROGRESS = 2, DONE = 3; priority: LOW = 1, MED = 2, HIGH = 3.
+ALTER TABLE tasks
+    ALTER COLUMN status TYPE SMALLINT
+        USING CASE status WHEN 'TODO' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'DONE' THEN 3 END,
+    ALTER COLUMN priority TYPE SMALLINT
+        USING CASE priority WHEN 'LOW' THEN 1 WHEN 'MED' THEN 2 WHEN 'HIGH' THEN 3 END,
+    ADD CONSTRAINT tasks_status_check CHECK (status BETWEEN 1 AND 3),
+    ADD CONSTRAINT tasks_priority_check CHECK (priority BETWEEN 1 AND 3);
+
+ALTER TABLE task_counters
+    ALTER COLUMN status TYPE SMALLINT
+        USING CASE status WHEN 'TODO' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'DONE' THEN 3 END,
+    ALTER COLUMN priority TYPE SMALLINT
+        USING CASE priority WHEN 'LOW' THEN 1 WHEN 'MED' THEN 2 WHEN 'HIGH' THEN 3 END;
+
+-- Status/priority filters, priority sort and their page counts; the leading workspace_id makes the old
+-- single-column index redundant.
+CREATE INDEX tasks_workspace_status_priority_id_idx ON tasks(workspace_id, status, priority, id);
+CREATE INDEX tasks_workspace_priority_id_idx ON tasks(workspace_id, priority, id);
+DROP INDEX tasks_workspace_id_idx;
@@ -0,0 +1,13 @@
+-- One index per list query shape: workspace_id, then the equality filter (if any), then the sort key and
+-- id (the tie-breaker), so a page is read in order and no sort step is needed.
+-- Already present: (workspace_id, updated_at, id) and (workspace_id, priority, id).
+CREATE INDEX tasks_workspace_created_at_id_idx ON tasks(workspace_id, created_at, id);
+CREATE INDEX tasks_workspace_due_date_id_idx ON tasks(workspace_id, due_date, id);
+CREATE INDEX tasks_workspace_status_id_idx ON tasks(workspace_id, status, id);
+CREATE INDEX tasks_workspace_status_created_at_id_idx ON tasks(workspace_id, status, created_at, id);
+CREATE INDEX tasks_workspace_priority_created_at_id_idx ON tasks(workspace_id, priority, created_at, id);
+CREATE INDEX tasks_workspace_assignee_created_at_id_idx ON tasks(workspace_id, assignee_id, created_at, id);
+CREATE INDEX tasks_workspace_assignee_due_date_id_idx ON tasks(workspace_id, assignee_id, due_date, id);
+
+-- Superseded by the status indexes above.
+DROP INDEX tasks_workspace_status_priority_id_idx;
@@ -0,0 +1,23 @@
+-- Change feed order: the writing transaction's id. Readers only go up to the oldest transaction still
+-- running, so a long transaction cannot commit rows behind a sync token that was already handed out.
+ALTER TABLE tasks ADD COLUMN change_xid xid8 NOT NULL DEFAULT '0';
+ALTER TABLE task_tombstones ADD COLUMN change_xid xid8 NOT NULL DEFAULT '0';
+
+CREATE FUNCTION stamp_change_xid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tasks_change_xid
+    BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_xid();
+
+CREATE TRIGGER task_tombstones_change_xid
+    BEFORE INSERT OR UPDATE ON task_tombstones
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_xid();
+
+CREATE INDEX tasks_workspace_change_xid_id_idx ON tasks(workspace_id, change_xid, id);
+DROP INDEX task_tombstones_workspace_deleted_at_idx;
+CREATE INDEX task_tombstones_workspace_change_xid_idx ON task_tombstones(workspace_id, change_xid, task_id);
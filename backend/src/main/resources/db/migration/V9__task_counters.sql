@@ -0,0 +1,15 @@
+CREATE TABLE task_counters (
+    workspace_id UUID NOT NULL REFERENCES workspaces(id) ON DELETE CASCADE,
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (workspace_id, project_id, status, priority)
+);
+
+CREATE INDEX task_counters_project_id_idx ON task_counters(project_id);
+
+INSERT INTO task_counters (workspace_id, project_id, status, priority, task_count)
+SELECT workspace_id, project_id, status, priority, count(*)
+FROM tasks
+GROUP BY workspace_id, project_id, status, priority;
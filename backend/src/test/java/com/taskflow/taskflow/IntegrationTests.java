@@ -2,22 +2,67 @@ package com.taskflow.taskflow;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.auth.jwt.PrincipalCache;
+import com.taskflow.taskflow.auth.jwt.UserPrincipal;
+import com.taskflow.taskflow.event.WorkspaceEvent;
+import com.taskflow.taskflow.event.WorkspaceEventService;
+import com.taskflow.taskflow.task.TaskCounterReconciler;
+import com.taskflow.taskflow.user.UserRepository;
+import com.taskflow.taskflow.workspace.WorkspaceMemberId;
+import com.taskflow.taskflow.workspace.WorkspaceMemberRepository;
+import com.taskflow.taskflow.workspace.WorkspaceRole;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -27,6 +72,11 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Testcontainers(disabledWithoutDocker = true)
 class IntegrationTests {
 
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Map<String, Object>>> JSON_ARRAY = new TypeReference<>() {
+    };
+
     @Container
     static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
 
@@ -36,17 +86,53 @@ class IntegrationTests {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> true);
+        registry.add("app.rate-limit.routes[0].method", () -> "GET");
+        registry.add("app.rate-limit.routes[0].path", () -> "/workspaces/{workspaceId}");
+        registry.add("app.rate-limit.routes[0].workspace.per-second", () -> 0.01);
+        registry.add("app.rate-limit.routes[0].workspace.burst", () -> 3);
+        registry.add("app.rate-limit.routes[1].method", () -> "POST");
+        registry.add("app.rate-limit.routes[1].path", () -> "/auth/refresh");
+        registry.add("app.rate-limit.routes[1].user.per-second", () -> 0.01);
+        registry.add("app.rate-limit.routes[1].user.burst", () -> 2);
     }
 
     @LocalServerPort
     int port;
 
+    @LocalManagementPort
+    int managementPort;
+
     @Autowired
     TestRestTemplate restTemplate;
 
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskCounterReconciler taskCounterReconciler;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PrincipalCache principalCache;
+
+    @Autowired
+    WorkspaceMemberRepository workspaceMemberRepository;
+
     @Test
     void tenantIsolationAndRbac() throws Exception {
         String ownerToken = registerAndLogin("owner@example.com", "password123");
@@ -79,6 +165,843 @@ class IntegrationTests {
         assertThat(viewerCreateTask.getStatusCode().value()).isEqualTo(403);
     }
 
+    @Test
+    void cursorPaginationWalksEveryTaskOnce() throws Exception {
+        String token = registerAndLogin("cursor@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Cursor Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Cursor Project").get("id").toString();
+
+        Set<String> created = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(createTask(token, projectId, "Cursor task " + i).get("id").toString());
+        }
+
+        for (String sort : List.of("createdAt,desc", "dueDate,asc", "priority,desc")) {
+            List<String> seen = new ArrayList<>();
+            String cursor = "";
+            boolean hasNext = true;
+            while (hasNext) {
+                ResponseEntity<String> response = exchange(
+                        HttpMethod.GET,
+                        "/workspaces/" + workspaceId + "/tasks?size=3&sort=" + sort + "&cursor=" + cursor,
+                        token,
+                        null);
+                assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+                Map<?, ?> page = objectMapper.readValue(response.getBody(), Map.class);
+                for (Object item : (List<?>) page.get("content")) {
+                    seen.add(((Map<?, ?>) item).get("id").toString());
+                }
+                hasNext = Boolean.TRUE.equals(page.get("hasNext"));
+                cursor = hasNext ? page.get("nextCursor").toString() : null;
+            }
+            assertThat(seen).hasSize(created.size());
+            assertThat(new HashSet<>(seen)).isEqualTo(created);
+        }
+    }
+
+    @Test
+    void prioritySortFollowsUrgency() throws Exception {
+        String token = registerAndLogin("priority@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Priority Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Priority Project").get("id").toString();
+        for (String priority : List.of("MED", "HIGH", "LOW")) {
+            exchange(HttpMethod.POST, "/projects/" + projectId + "/tasks", token,
+                    Map.of("title", priority + " task", "priority", priority));
+        }
+
+        ResponseEntity<String> response = exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks?sort=priority,desc", token, null);
+        Map<?, ?> page = objectMapper.readValue(response.getBody(), Map.class);
+        List<Object> priorities = new ArrayList<>();
+        for (Object item : (List<?>) page.get("content")) {
+            priorities.add(((Map<?, ?>) item).get("priority"));
+        }
+        assertThat(priorities).containsExactly("HIGH", "MED", "LOW");
+    }
+
+    @Test
+    void fullTextSearchMatchesWordsAndHighlights() throws Exception {
+        String token = registerAndLogin("search@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Search Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Search Project").get("id").toString();
+        createTask(token, projectId, "Fix login redirect");
+        createTask(token, projectId, "Write release notes");
+
+        ResponseEntity<String> response = exchange(
+                HttpMethod.GET,
+                "/workspaces/" + workspaceId + "/tasks?q=logins&highlight=true",
+                token,
+                null);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        Map<?, ?> page = objectMapper.readValue(response.getBody(), Map.class);
+        List<?> content = (List<?>) page.get("content");
+        assertThat(content).hasSize(1);
+        Map<?, ?> match = (Map<?, ?>) content.get(0);
+        assertThat(match.get("title")).isEqualTo("Fix login redirect");
+        assertThat(match.get("snippet").toString()).contains("<mark>login</mark>");
+    }
+
+    @Test
+    void highlightedSnippetsEscapeTaskText() throws Exception {
+        String token = registerAndLogin("escape@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Escape Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Escape Project").get("id").toString();
+        createTask(token, projectId, "<script>alert('x')</script> login & logout");
+
+        ResponseEntity<String> response = exchange(
+                HttpMethod.GET,
+                "/workspaces/" + workspaceId + "/tasks?q=login&highlight=true",
+                token,
+                null);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        String snippet = objectMapper.readTree(response.getBody()).get("content").get(0).get("snippet").asText();
+        assertThat(snippet)
+                .doesNotContain("<script>")
+                .contains("&lt;script&gt;")
+                .contains("<mark>login</mark>")
+                .contains("&amp;");
+    }
+
+    @Test
+    void readEndpointsStayWithinQueryAndConnectionBudgets() throws Exception {
+        String token = registerAndLogin("budget@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Budget Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Budget Project").get("id").toString();
+        String taskId = createTask(token, projectId, "Budget task").get("id").toString();
+        exchange(HttpMethod.POST, "/tasks/" + taskId + "/comments", token, Map.of("body", "First"));
+
+        Map<String, Integer> statementBudgets = new LinkedHashMap<>();
+        statementBudgets.put("/tasks/" + taskId, 1);
+        statementBudgets.put("/tasks/" + taskId + "/comments", 2);
+        statementBudgets.put("/workspaces/" + workspaceId + "/tasks", 3);
+        statementBudgets.put("/workspaces/" + workspaceId + "/projects", 1);
+        statementBudgets.put("/workspaces/" + workspaceId, 1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Timer connectionUsage = meterRegistry.find("hikaricp.connections.usage").timer();
+        assertThat(connectionUsage).isNotNull();
+
+        for (Map.Entry<String, Integer> budget : statementBudgets.entrySet()) {
+            // Warm the principal and role caches so only the endpoint's own work is measured.
+            exchange(HttpMethod.GET, budget.getKey(), token, null);
+
+            statistics.clear();
+            long checkoutsBefore = connectionUsage.count();
+            double heldBefore = connectionUsage.totalTime(TimeUnit.MILLISECONDS);
+
+            ResponseEntity<String> response = exchange(HttpMethod.GET, budget.getKey(), token, null);
+
+            assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+            assertThat(statistics.getPrepareStatementCount())
+                    .as("statements for %s", budget.getKey())
+                    .isLessThanOrEqualTo(budget.getValue());
+            assertThat(connectionUsage.count() - checkoutsBefore)
+                    .as("connection checkouts for %s", budget.getKey())
+                    .isLessThanOrEqualTo(1);
+            assertThat(connectionUsage.totalTime(TimeUnit.MILLISECONDS) - heldBefore)
+                    .as("connection hold time (ms) for %s", budget.getKey())
+                    .isLessThan(250);
+        }
+    }
+
+    @Test
+    void listMyWorkspacesIsASingleQuery() throws Exception {
+        String token = registerAndLogin("many-workspaces@example.com", "password123");
+        String viewerToken = registerAndLogin("many-viewer@example.com", "password123");
+        for (int i = 0; i < 5; i++) {
+            String workspaceId = createWorkspace(token, "Workspace " + i).get("id").toString();
+            acceptInvite(viewerToken, createInvite(token, workspaceId, "many-viewer@example.com", "VIEWER"));
+        }
+        createWorkspace(viewerToken, "Own Workspace");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> response = exchange(HttpMethod.GET, "/workspaces", viewerToken, null);
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        List<Map<String, Object>> workspaces = objectMapper.readValue(response.getBody(), JSON_ARRAY);
+        assertThat(workspaces).hasSize(6);
+        assertThat(workspaces).extracting(workspace -> workspace.get("role"))
+                .containsOnly("VIEWER", "OWNER");
+
+        ResponseEntity<String> paged = exchange(HttpMethod.GET, "/workspaces?page=1&size=4", viewerToken, null);
+        assertThat(objectMapper.readValue(paged.getBody(), JSON_ARRAY)).hasSize(2);
+    }
+
+    @Test
+    void exportStreamsEveryMatchingTask() throws Exception {
+        String token = registerAndLogin("export@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Export Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Export Project").get("id").toString();
+        for (int i = 0; i < 5; i++) {
+            createTask(token, projectId, "Export task " + i);
+        }
+
+        ResponseEntity<String> ndjson = exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks/export", token, null);
+        assertThat(ndjson.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(ndjson.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        List<String> lines = ndjson.getBody().lines().toList();
+        assertThat(lines).hasSize(5);
+        for (String line : lines) {
+            assertThat(objectMapper.readValue(line, Map.class).get("workspaceId")).isEqualTo(workspaceId);
+        }
+
+        ResponseEntity<String> csv = exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks/export?format=csv&q=task", token, null);
+        assertThat(csv.getStatusCode().is2xxSuccessful()).isTrue();
+        List<String> rows = csv.getBody().lines().toList();
+        assertThat(rows.get(0)).startsWith("id,workspaceId,projectId,title");
+        assertThat(rows).hasSize(6);
+    }
+
+    @Test
+    void batchEndpointsReportPerItemResults() throws Exception {
+        String token = registerAndLogin("batch@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Batch Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Batch Project").get("id").toString();
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            items.add(Map.of("title", "Batch task " + i));
+        }
+        items.add(Map.of("title", "x"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> created = exchange(
+                HttpMethod.POST, "/projects/" + projectId + "/tasks:batch", token, Map.of("items", items));
+        assertThat(created.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+
+        List<Map<String, Object>> results = objectMapper.readValue(created.getBody(), JSON_ARRAY);
+        assertThat(results).hasSize(121);
+        assertThat(results.get(120).get("status")).isEqualTo(400);
+        assertThat(results.subList(0, 120)).allSatisfy(result -> assertThat(result.get("status")).isEqualTo(200));
+
+        Map<?, ?> first = (Map<?, ?>) results.get(0).get("task");
+        Map<?, ?> second = (Map<?, ?>) results.get(1).get("task");
+        List<Map<String, Object>> updates = List.of(
+                Map.of("id", first.get("id"), "version", first.get("version"), "changes", Map.of("status", "DONE")),
+                Map.of("id", second.get("id"), "version", 42, "changes", Map.of("status", "DONE")),
+                Map.of("id", UUID.randomUUID(), "version", 0, "changes", Map.of("status", "DONE")));
+        ResponseEntity<String> updated = exchange(
+                HttpMethod.PATCH, "/workspaces/" + workspaceId + "/tasks:batch", token, Map.of("items", updates));
+        assertThat(updated.getStatusCode().is2xxSuccessful()).isTrue();
+
+        List<Map<String, Object>> updateResults = objectMapper.readValue(updated.getBody(), JSON_ARRAY);
+        assertThat(updateResults).extracting(result -> result.get("status")).containsExactly(200, 409, 404);
+        Map<?, ?> updatedTask = (Map<?, ?>) updateResults.get(0).get("task");
+        assertThat(updatedTask.get("status")).isEqualTo("DONE");
+        assertThat(((Number) updatedTask.get("version")).longValue())
+                .isEqualTo(((Number) first.get("version")).longValue() + 1);
+    }
+
+    @Test
+    void importLoadsValidRowsAndReportsRowErrors() throws Exception {
+        String token = registerAndLogin("import@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Import Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Import Project").get("id").toString();
+
+        String ndjson = """
+                {"title": "Imported one", "priority": "HIGH"}
+                {"title": "x"}
+                {"title": "Imported two", "status": "SOMEDAY"}
+                {"title": "Imported three", "assigneeId": "%s"}
+                {"title": "Imported \\"quoted\\", with comma", "dueDate": "2030-01-01"}
+                """.formatted(UUID.randomUUID());
+        ResponseEntity<String> response = exchange(
+                HttpMethod.POST, "/projects/" + projectId + "/tasks:import", token, ndjson);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        Map<String, Object> result = objectMapper.readValue(response.getBody(), JSON_OBJECT);
+        assertThat(result.get("imported")).isEqualTo(2);
+        assertThat(result.get("failed")).isEqualTo(3);
+        List<Map<String, Object>> errors = objectMapper.convertValue(result.get("errors"), JSON_ARRAY);
+        assertThat(errors).extracting(error -> error.get("row")).containsExactly(2, 3, 4);
+
+        String csv = """
+                title,description,priority
+                CSV task one,,LOW
+                CSV task two,"multi
+                line",
+                """;
+        ResponseEntity<String> csvResponse = exchange(
+                HttpMethod.POST, "/projects/" + projectId + "/tasks:import?format=csv", token, csv);
+        assertThat(objectMapper.readValue(csvResponse.getBody(), Map.class).get("imported")).isEqualTo(2);
+
+        ResponseEntity<String> listed = exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks?size=50", token, null);
+        Map<?, ?> page = objectMapper.readValue(listed.getBody(), Map.class);
+        assertThat(page.get("totalElements")).isEqualTo(4);
+    }
+
+    @Test
+    void importReportsNulCharactersAsRowErrors() throws Exception {
+        String token = registerAndLogin("import-nul@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Import NUL Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Import NUL Project").get("id").toString();
+
+        String ndjson = """
+                {"title": "Before"}
+                {"title": "Bad\\u0000title"}
+                {"title": "Bad description", "description": "a\\u0000b"}
+                {"title": "After"}
+                """;
+        ResponseEntity<String> response = exchange(
+                HttpMethod.POST, "/projects/" + projectId + "/tasks:import", token, ndjson);
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Map<String, Object> result = objectMapper.readValue(response.getBody(), JSON_OBJECT);
+        assertThat(result.get("imported")).isEqualTo(2);
+        assertThat(result.get("failed")).isEqualTo(2);
+        List<Map<String, Object>> errors = objectMapper.convertValue(result.get("errors"), JSON_ARRAY);
+        assertThat(errors).extracting(error -> error.get("error")).containsExactly(
+                "title: must not contain NUL characters", "description: must not contain NUL characters");
+
+        Map<?, ?> page = objectMapper.readValue(exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks?size=50", token, null).getBody(), Map.class);
+        assertThat(page.get("totalElements")).isEqualTo(2);
+    }
+
+    @Test
+    void statsFollowWritesAndReconcileRepairsDrift() throws Exception {
+        String token = registerAndLogin("stats@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Stats Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Stats Project").get("id").toString();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            taskIds.add(createTask(token, projectId, "Stats task " + i).get("id").toString());
+        }
+        exchange(HttpMethod.PATCH, "/tasks/" + taskIds.get(0), token, Map.of("status", "DONE", "priority", "HIGH"));
+        exchange(HttpMethod.DELETE, "/tasks/" + taskIds.get(1), token, null);
+
+        Map<String, Object> stats = stats(token, workspaceId);
+        assertThat(stats.get("total")).isEqualTo(3);
+        assertThat(stats.get("byStatus")).isEqualTo(Map.of("TODO", 2, "IN_PROGRESS", 0, "DONE", 1));
+        assertThat(stats.get("byPriority")).isEqualTo(Map.of("LOW", 0, "MED", 2, "HIGH", 1));
+
+        jdbcTemplate.update("UPDATE task_counters SET task_count = 99 WHERE workspace_id = ?::uuid", workspaceId);
+        taskCounterReconciler.reconcile();
+        assertThat(stats(token, workspaceId).get("total")).isEqualTo(3);
+    }
+
+    @Test
+    void conditionalRequestsUseTaskVersions() throws Exception {
+        String token = registerAndLogin("etag@example.com", "password123");
+        String workspaceId = createWorkspace(token, "ETag Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "ETag Project").get("id").toString();
+        String taskId = createTask(token, projectId, "ETag task").get("id").toString();
+
+        ResponseEntity<String> first = exchange(HttpMethod.GET, "/tasks/" + taskId, token, null);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> cached = exchange(
+                HttpMethod.GET, "/tasks/" + taskId, token, null, headers(HttpHeaders.IF_NONE_MATCH, etag));
+        assertThat(cached.getStatusCode().value()).isEqualTo(304);
+        assertThat(cached.getBody()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        String listPath = "/workspaces/" + workspaceId + "/tasks";
+        String listETag = exchange(HttpMethod.GET, listPath, token, null).getHeaders().getETag();
+        assertThat(listETag).startsWith("W/");
+        assertThat(exchange(HttpMethod.GET, listPath, token, null, headers(HttpHeaders.IF_NONE_MATCH, listETag))
+                .getStatusCode().value()).isEqualTo(304);
+
+        ResponseEntity<String> updated = exchange(
+                HttpMethod.PATCH, "/tasks/" + taskId, token, Map.of("status", "DONE"), headers(HttpHeaders.IF_MATCH, etag));
+        assertThat(updated.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(updated.getHeaders().getETag()).isNotEqualTo(etag);
+
+        ResponseEntity<String> stale = exchange(
+                HttpMethod.PATCH, "/tasks/" + taskId, token, Map.of("status", "TODO"), headers(HttpHeaders.IF_MATCH, etag));
+        assertThat(stale.getStatusCode().value()).isEqualTo(412);
+
+        assertThat(exchange(HttpMethod.GET, "/tasks/" + taskId, token, null, headers(HttpHeaders.IF_NONE_MATCH, etag))
+                .getStatusCode().value()).isEqualTo(200);
+        assertThat(exchange(HttpMethod.GET, listPath, token, null, headers(HttpHeaders.IF_NONE_MATCH, listETag))
+                .getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void changeFeedDeliversUpsertsAndTombstonesInOrder() throws Exception {
+        String token = registerAndLogin("changes@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Changes Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Changes Project").get("id").toString();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            taskIds.add(createTask(token, projectId, "Changes task " + i).get("id").toString());
+        }
+
+        Map<String, Object> first = changes(token, workspaceId, "", 2);
+        assertThat(first.get("hasMore")).isEqualTo(true);
+        Map<String, Object> second = changes(token, workspaceId, first.get("nextToken").toString(), 2);
+        assertThat(second.get("hasMore")).isEqualTo(false);
+        List<Object> seen = new ArrayList<>();
+        for (Map<String, Object> page : List.of(first, second)) {
+            for (Object change : (List<?>) page.get("changes")) {
+                seen.add(((Map<?, ?>) change).get("id"));
+            }
+        }
+        assertThat(seen).containsExactlyElementsOf(taskIds);
+
+        exchange(HttpMethod.PATCH, "/tasks/" + taskIds.get(0), token, Map.of("status", "DONE"));
+        exchange(HttpMethod.DELETE, "/tasks/" + taskIds.get(1), token, null);
+
+        Map<String, Object> delta = changes(token, workspaceId, second.get("nextToken").toString(), 10);
+        List<Map<String, Object>> changes = objectMapper.convertValue(delta.get("changes"), JSON_ARRAY);
+        assertThat(changes).extracting(change -> change.get("type")).containsExactly("UPSERT", "DELETE");
+        assertThat(changes).extracting(change -> change.get("id")).containsExactly(taskIds.get(0), taskIds.get(1));
+        assertThat(((Map<?, ?>) changes.get(0).get("task")).get("status")).isEqualTo("DONE");
+
+        String expired = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("v2|1|" + UUID.randomUUID() + "|1").getBytes(StandardCharsets.UTF_8));
+        assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks/changes?since=" + expired, token, null)
+                .getStatusCode().value()).isEqualTo(410);
+    }
+
+    @Test
+    void subscribersReceiveCommittedWorkspaceEvents() throws Exception {
+        String token = registerAndLogin("events@example.com", "password123");
+        String outsiderToken = registerAndLogin("events-outsider@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Events Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Events Project").get("id").toString();
+
+        URI eventsUri = URI.create("http://localhost:" + port + "/workspaces/" + workspaceId + "/events");
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Void> denied = client.send(
+                HttpRequest.newBuilder(eventsUri).header(HttpHeaders.AUTHORIZATION, "Bearer " + outsiderToken).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(denied.statusCode()).isEqualTo(404);
+
+        HttpResponse<Stream<String>> stream = client.send(
+                HttpRequest.newBuilder(eventsUri).header(HttpHeaders.AUTHORIZATION, "Bearer " + token).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> stream.body().forEach(lines::add));
+        reader.setDaemon(true);
+        reader.start();
+
+        String taskId = createTask(token, projectId, "Pushed task").get("id").toString();
+        exchange(HttpMethod.POST, "/tasks/" + taskId + "/comments", token, Map.of("body", "Pushed comment"));
+
+        List<String> events = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events.size() < 3 && System.nanoTime() < deadline) {
+            String line = lines.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.startsWith("event:")) {
+                events.add(line.substring("event:".length()));
+            }
+        }
+        assertThat(events).containsExactly("ready", "task.created", "comment.created");
+        stream.body().close();
+    }
+
+    @Test
+    void batchesLargerThanTheSubscriberBufferPublishOneEvent() throws Exception {
+        String token = registerAndLogin("batch-events@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Batch Events Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Batch Events Project").get("id").toString();
+
+        HttpResponse<Stream<String>> stream = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/workspaces/" + workspaceId + "/events"))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> stream.body().forEach(lines::add));
+        reader.setDaemon(true);
+        reader.start();
+
+        // app.events.buffer-size is 256
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            items.add(Map.of("title", "Buffered task " + i));
+        }
+        ResponseEntity<String> created = exchange(
+                HttpMethod.POST, "/projects/" + projectId + "/tasks:batch", token, Map.of("items", items));
+        assertThat(created.getStatusCode().is2xxSuccessful()).isTrue();
+        List<Map<String, Object>> updates = objectMapper.readValue(created.getBody(), JSON_ARRAY).stream()
+                .map(result -> objectMapper.convertValue(result.get("task"), JSON_OBJECT))
+                .map(task -> Map.<String, Object>of(
+                        "id", task.get("id"), "version", task.get("version"), "changes", Map.of("status", "DONE")))
+                .toList();
+        ResponseEntity<String> updated = exchange(
+                HttpMethod.PATCH, "/workspaces/" + workspaceId + "/tasks:batch", token, Map.of("items", updates));
+        assertThat(updated.getStatusCode().is2xxSuccessful()).isTrue();
+        createTask(token, projectId, "After the batches");
+
+        List<String> events = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events.size() < 4 && System.nanoTime() < deadline) {
+            String line = lines.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.startsWith("event:")) {
+                events.add(line.substring("event:".length()));
+            }
+        }
+        assertThat(events).containsExactly("ready", "tasks.created", "tasks.updated", "task.created");
+        stream.body().close();
+    }
+
+    @Test
+    void changeFeedWaitsForTransactionsThatCommitLate() throws Exception {
+        String token = registerAndLogin("late@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Late Workspace").get("id").toString();
+        String projectId = createProject(token, workspaceId, "Late Project").get("id").toString();
+        String slowTaskId = createTask(token, projectId, "Slow").get("id").toString();
+        String since = changes(token, workspaceId, "", 10).get("nextToken").toString();
+
+        try (Connection slow = jdbcTemplate.getDataSource().getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement update = slow.prepareStatement(
+                    "UPDATE tasks SET title = 'Slow, committed late', updated_at = now() WHERE id = ?")) {
+                update.setObject(1, UUID.fromString(slowTaskId));
+                update.executeUpdate();
+            }
+            String fastTaskId = createTask(token, projectId, "Fast").get("id").toString();
+
+            Map<String, Object> during = changes(token, workspaceId, since, 10);
+            assertThat(objectMapper.convertValue(during.get("changes"), JSON_ARRAY)).isEmpty();
+            since = during.get("nextToken").toString();
+
+            slow.commit();
+            Map<String, Object> after = changes(token, workspaceId, since, 10);
+            assertThat(objectMapper.convertValue(after.get("changes"), JSON_ARRAY))
+                    .extracting(change -> change.get("id"))
+                    .containsExactly(slowTaskId, fastTaskId);
+        }
+    }
+
+    @Test
+    void secondNodeSeesCommittedChangesOverNotify() throws Exception {
+        String ownerToken = registerAndLogin("cluster-owner@example.com", "password123");
+        String memberToken = registerAndLogin("cluster-member@example.com", "password123");
+        String workspaceId = createWorkspace(ownerToken, "Cluster Workspace").get("id").toString();
+        String projectId = createProject(ownerToken, workspaceId, "Cluster Project").get("id").toString();
+
+        try (ConfigurableApplicationContext nodeB = new SpringApplicationBuilder(TaskflowApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword())
+                .run()) {
+            String nodeBUrl = "http://localhost:" + nodeB.getEnvironment().getProperty("local.server.port");
+            String memberTasks = nodeBUrl + "/workspaces/" + workspaceId + "/tasks";
+
+            // Caches a negative role lookup on node B.
+            assertThat(getAt(memberTasks, memberToken).getStatusCode().value()).isEqualTo(404);
+            acceptInvite(memberToken, createInvite(ownerToken, workspaceId, "cluster-member@example.com", "VIEWER"));
+            int status = 404;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (status != 200 && System.nanoTime() < deadline) {
+                status = getAt(memberTasks, memberToken).getStatusCode().value();
+                if (status != 200) {
+                    Thread.sleep(100);
+                }
+            }
+            assertThat(status).isEqualTo(200);
+
+            HttpResponse<Stream<String>> stream = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(nodeBUrl + "/workspaces/" + workspaceId + "/events"))
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                            .build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            assertThat(stream.statusCode()).isEqualTo(200);
+            BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+            Thread reader = new Thread(() -> stream.body().forEach(lines::add));
+            reader.setDaemon(true);
+            reader.start();
+
+            createTask(ownerToken, projectId, "Fanned out task");
+
+            List<String> events = new ArrayList<>();
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.size() < 2 && System.nanoTime() < deadline) {
+                String line = lines.poll(100, TimeUnit.MILLISECONDS);
+                if (line != null && line.startsWith("event:")) {
+                    events.add(line.substring("event:".length()));
+                }
+            }
+            assertThat(events).containsExactly("ready", "task.created");
+            stream.body().close();
+        }
+    }
+
+    @Test
+    void stalledSubscribersAreEvictedWhileTheReconcileHoldsTheScheduler() throws Exception {
+        String token = registerAndLogin("stalled@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Stalled Workspace").get("id").toString();
+
+        try (ConfigurableApplicationContext node = new SpringApplicationBuilder(TaskflowApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.task.scheduling.pool.size=1",
+                        "app.cluster.events.enabled=false",
+                        "app.events.buffer-size=100000",
+                        "app.events.send-timeout=PT0.5S",
+                        "app.events.heartbeat-interval=PT0.2S")
+                .run();
+                Connection blocker = jdbcTemplate.getDataSource().getConnection()) {
+            int nodePort = Integer.parseInt(node.getEnvironment().getProperty("local.server.port"));
+            MeterRegistry nodeMeters = node.getBean(MeterRegistry.class);
+
+            // The reconcile takes the scheduler's only thread and waits on the counter lock held here.
+            blocker.setAutoCommit(false);
+            try (PreparedStatement lock = blocker.prepareStatement("LOCK TABLE task_counters IN EXCLUSIVE MODE")) {
+                lock.execute();
+            }
+            node.getBean(TaskScheduler.class).schedule(node.getBean(TaskCounterReconciler.class)::reconcile, Instant.now());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (waitingOnCounterLock() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(waitingOnCounterLock()).isPositive();
+
+            HttpResponse<Stream<String>> healthy = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + nodePort + "/workspaces/" + workspaceId + "/events"))
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+            Thread reader = new Thread(() -> healthy.body().forEach(lines::add));
+            reader.setDaemon(true);
+            reader.start();
+
+            // A client that never reads: once the socket buffers fill, sends to it block.
+            try (Socket stalled = new Socket()) {
+                stalled.setReceiveBufferSize(1024);
+                stalled.connect(new InetSocketAddress("localhost", nodePort));
+                OutputStream request = stalled.getOutputStream();
+                request.write(("GET /workspaces/" + workspaceId + "/events HTTP/1.1\r\n"
+                        + "Host: localhost\r\n"
+                        + "Authorization: Bearer " + token + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                request.flush();
+                deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (nodeMeters.get("workspace.events.subscribers").gauge().value() < 2 && System.nanoTime() < deadline) {
+                    Thread.sleep(50);
+                }
+                assertThat(nodeMeters.get("workspace.events.subscribers").gauge().value()).isEqualTo(2);
+
+                WorkspaceEventService events = node.getBean(WorkspaceEventService.class);
+                for (int i = 0; i < 50_000; i++) {
+                    events.publish(WorkspaceEvent.task(WorkspaceEvent.Type.TASK_UPDATED, UUID.fromString(workspaceId), UUID.randomUUID()));
+                }
+
+                deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+                while (nodeMeters.counter("workspace.events.stalled").count() < 1 && System.nanoTime() < deadline) {
+                    Thread.sleep(100);
+                }
+                assertThat(nodeMeters.counter("workspace.events.stalled").count()).isEqualTo(1);
+                assertThat(nodeMeters.get("workspace.events.subscribers").gauge().value()).isEqualTo(1);
+            }
+
+            // Heartbeats still reach the healthy subscriber while the reconcile is blocked.
+            lines.clear();
+            boolean heartbeat = false;
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!heartbeat && System.nanoTime() < deadline) {
+                String line = lines.poll(100, TimeUnit.MILLISECONDS);
+                heartbeat = line != null && line.startsWith(":heartbeat");
+            }
+            assertThat(heartbeat).isTrue();
+            assertThat(waitingOnCounterLock()).isPositive();
+            healthy.body().close();
+            blocker.rollback();
+        }
+    }
+
+    private int waitingOnCounterLock() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_locks WHERE NOT granted AND relation = 'task_counters'::regclass", Integer.class);
+    }
+
+    @Test
+    void loginUpgradesWeakPasswordHashes() throws Exception {
+        registerAndLogin("upgrade@example.com", "password123");
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        jdbcTemplate.update("UPDATE users SET password_hash = ? WHERE email = ?", weakHash, "upgrade@example.com");
+
+        ResponseEntity<String> login = exchange(
+                HttpMethod.POST, "/auth/login", null, Map.of("email", "upgrade@example.com", "password", "password123"));
+        assertThat(login.getStatusCode().value()).isEqualTo(200);
+        String upgraded = jdbcTemplate.queryForObject(
+                "SELECT password_hash FROM users WHERE email = ?", String.class, "upgrade@example.com");
+        assertThat(upgraded).startsWith("{bcrypt}$2a$10$");
+
+        ResponseEntity<String> again = exchange(
+                HttpMethod.POST, "/auth/login", null, Map.of("email", "upgrade@example.com", "password", "password123"));
+        assertThat(again.getStatusCode().value()).isEqualTo(200);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT password_hash FROM users WHERE email = ?", String.class, "upgrade@example.com"))
+                .isEqualTo(upgraded);
+    }
+
+    @Test
+    void workspaceBudgetThrottlesOnlyThatWorkspace() throws Exception {
+        String token = registerAndLogin("throttled@example.com", "password123");
+        String busy = createWorkspace(token, "Busy").get("id").toString();
+        String quiet = createWorkspace(token, "Quiet").get("id").toString();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(exchange(HttpMethod.GET, "/workspaces/" + busy, token, null).getStatusCode().value())
+                    .isEqualTo(200);
+        }
+        ResponseEntity<String> throttled = exchange(HttpMethod.GET, "/workspaces/" + busy, token, null);
+        assertThat(throttled.getStatusCode().value()).isEqualTo(429);
+        assertThat(Long.parseLong(throttled.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isPositive();
+        assertThat(objectMapper.readTree(throttled.getBody()).get("message").asText()).isEqualTo("Rate limit exceeded");
+
+        assertThat(exchange(HttpMethod.GET, "/workspaces/" + quiet, token, null).getStatusCode().value())
+                .isEqualTo(200);
+        assertThat(meterRegistry.counter("http.server.requests.throttled",
+                "route", "/workspaces/{workspaceId}", "scope", "workspace").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void outsidersDoNotSpendAnotherWorkspacesBudget() throws Exception {
+        String owner = registerAndLogin("budget-owner@example.com", "password123");
+        String outsider = registerAndLogin("budget-outsider@example.com", "password123");
+        String workspaceId = createWorkspace(owner, "Guarded").get("id").toString();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId, outsider, null).getStatusCode().value())
+                    .isEqualTo(404);
+            assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId, null, null).getStatusCode().value())
+                    .isEqualTo(403);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId, owner, null).getStatusCode().value())
+                    .isEqualTo(200);
+        }
+        assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId, owner, null).getStatusCode().value())
+                .isEqualTo(429);
+    }
+
+    @Test
+    void anonymousBudgetsAreKeyedByForwardedClientAddress() throws Exception {
+        HttpHeaders first = new HttpHeaders();
+        first.set("X-Forwarded-For", "203.0.113.10");
+        HttpHeaders second = new HttpHeaders();
+        second.set("X-Forwarded-For", "203.0.113.20");
+        Map<String, String> body = Map.of("refreshToken", "not-a-token");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(exchange(HttpMethod.POST, "/auth/refresh", null, body, first).getStatusCode().value())
+                    .isNotEqualTo(429);
+        }
+        assertThat(exchange(HttpMethod.POST, "/auth/refresh", null, body, first).getStatusCode().value())
+                .isEqualTo(429);
+        assertThat(exchange(HttpMethod.POST, "/auth/refresh", null, body, second).getStatusCode().value())
+                .isNotEqualTo(429);
+    }
+
+    @Test
+    void expectedFailuresAreCountedPerStatusAndRoute() throws Exception {
+        String token = registerAndLogin("missing@example.com", "password123");
+        double before = meterRegistry.counter("http.server.errors", "status", "404", "route", "/tasks/{taskId}").count();
+
+        ResponseEntity<String> missing = exchange(HttpMethod.GET, "/tasks/" + UUID.randomUUID(), token, null);
+        assertThat(missing.getStatusCode().value()).isEqualTo(404);
+        assertThat(objectMapper.readTree(missing.getBody()).get("message").asText()).isEqualTo("Task not found");
+        assertThat(meterRegistry.counter("http.server.errors", "status", "404", "route", "/tasks/{taskId}").count())
+                .isEqualTo(before + 1);
+
+        assertThat(exchange(HttpMethod.GET, "/no-such-endpoint", token, null).getStatusCode().value()).isEqualTo(404);
+    }
+
+    @Test
+    void prometheusEndpointExposesHttpPoolHibernateAndServiceMetrics() throws Exception {
+        String token = registerAndLogin("metrics@example.com", "password123");
+        String workspaceId = createWorkspace(token, "Metrics Workspace").get("id").toString();
+        assertThat(exchange(HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks", token, null)
+                .getStatusCode().value()).isEqualTo(200);
+
+        assertThat(exchange(HttpMethod.GET, "/actuator/prometheus", null, null).getStatusCode().is2xxSuccessful())
+                .isFalse();
+        ResponseEntity<String> scrape = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+        assertThat(scrape.getStatusCode().value()).isEqualTo(200);
+        assertThat(scrape.getBody())
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/workspaces/{workspaceId}/tasks\"")
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_pending")
+                .contains("hikaricp_connections_acquire_seconds")
+                .contains("hibernate_query_executions")
+                .contains("hibernate_entities_loads")
+                .contains("hibernate_second_level_cache_requests")
+                .contains("task_list_seconds_bucket")
+                .contains("auth_login_seconds_bucket")
+                .contains("workspace_access_check_seconds_bucket");
+    }
+
+    @Test
+    void userChangesReachThePrincipalCacheOnTheNextRequest() throws Exception {
+        String token = registerAndLogin("cached@example.com", "password123");
+        UUID userId = userRepository.findByEmailIgnoreCase("cached@example.com").orElseThrow().getId();
+        assertThat(exchange(HttpMethod.GET, "/workspaces", token, null).getStatusCode().value()).isEqualTo(200);
+        assertThat(cachedPrincipal(userId)).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().setEmail("renamed@example.com"));
+        assertThat(cachedPrincipal(userId)).isNull();
+        assertThat(exchange(HttpMethod.GET, "/workspaces", token, null).getStatusCode().value()).isEqualTo(200);
+        assertThat(cachedPrincipal(userId).getUser().getEmail()).isEqualTo("renamed@example.com");
+
+        assertThat(exchange(HttpMethod.POST, "/auth/logout", token, null).getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(cachedPrincipal(userId)).isNull();
+
+        assertThat(exchange(HttpMethod.GET, "/workspaces", token, null).getStatusCode().value()).isEqualTo(200);
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+        assertThat(exchange(HttpMethod.GET, "/workspaces", token, null).getStatusCode().value()).isIn(401, 403);
+    }
+
+    @Test
+    void roleChangesAndRemovalsApplyOnTheNextRequest() throws Exception {
+        String ownerToken = registerAndLogin("roles-owner@example.com", "password123");
+        String memberToken = registerAndLogin("roles-member@example.com", "password123");
+        String workspaceId = createWorkspace(ownerToken, "Roles Workspace").get("id").toString();
+        String projectId = createProject(ownerToken, workspaceId, "Roles Project").get("id").toString();
+        String projects = "/workspaces/" + workspaceId + "/projects";
+        String tasks = "/projects/" + projectId + "/tasks";
+
+        // The probe caches "not a member"; joining must replace that negative entry.
+        assertThat(exchange(HttpMethod.GET, projects, memberToken, null).getStatusCode().value()).isEqualTo(404);
+        acceptInvite(memberToken, createInvite(ownerToken, workspaceId, "roles-member@example.com", "VIEWER"));
+        assertThat(exchange(HttpMethod.GET, projects, memberToken, null).getStatusCode().value()).isEqualTo(200);
+        assertThat(exchange(HttpMethod.POST, tasks, memberToken, Map.of("title", "Denied")).getStatusCode().value())
+                .isEqualTo(403);
+
+        UUID memberId = userRepository.findByEmailIgnoreCase("roles-member@example.com").orElseThrow().getId();
+        WorkspaceMemberId key = new WorkspaceMemberId(UUID.fromString(workspaceId), memberId);
+        transactionTemplate.executeWithoutResult(status -> {
+            workspaceMemberRepository.findById(key).orElseThrow().setRole(WorkspaceRole.MEMBER);
+            workspaceMemberRepository.flush();
+            // A request racing the uncommitted change re-caches VIEWER; the after-commit eviction must drop it.
+            assertThat(exchange(HttpMethod.POST, tasks, memberToken, Map.of("title", "Racing")).getStatusCode().value())
+                    .isEqualTo(403);
+        });
+        assertThat(exchange(HttpMethod.POST, tasks, memberToken, Map.of("title", "Allowed")).getStatusCode()
+                .is2xxSuccessful()).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> workspaceMemberRepository.deleteById(key));
+        assertThat(exchange(HttpMethod.GET, projects, memberToken, null).getStatusCode().value()).isEqualTo(404);
+    }
+
+    private UserPrincipal cachedPrincipal(UUID userId) {
+        return principalCache.get(userId, id -> null);
+    }
+
     private String registerAndLogin(String email, String password) throws Exception {
         ResponseEntity<String> register = exchange(
                 HttpMethod.POST,
@@ -105,7 +1028,7 @@ class IntegrationTests {
                 token,
                 Map.of("name", name));
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        return objectMapper.readValue(response.getBody(), Map.class);
+        return objectMapper.readValue(response.getBody(), JSON_OBJECT);
     }
 
     private Map<String, Object> createProject(String token, String workspaceId, String name) throws Exception {
@@ -115,7 +1038,7 @@ class IntegrationTests {
                 token,
                 Map.of("name", name));
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        return objectMapper.readValue(response.getBody(), Map.class);
+        return objectMapper.readValue(response.getBody(), JSON_OBJECT);
     }
 
     private Map<String, Object> createTask(String token, String projectId, String title) throws Exception {
@@ -125,7 +1048,24 @@ class IntegrationTests {
                 token,
                 Map.of("title", title));
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        return objectMapper.readValue(response.getBody(), Map.class);
+        return objectMapper.readValue(response.getBody(), JSON_OBJECT);
+    }
+
+    private Map<String, Object> stats(String token, String workspaceId) throws Exception {
+        ResponseEntity<String> response = exchange(
+                HttpMethod.GET, "/workspaces/" + workspaceId + "/tasks/stats", token, null);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        return objectMapper.readValue(response.getBody(), JSON_OBJECT);
+    }
+
+    private Map<String, Object> changes(String token, String workspaceId, String since, int size) throws Exception {
+        ResponseEntity<String> response = exchange(
+                HttpMethod.GET,
+                "/workspaces/" + workspaceId + "/tasks/changes?size=" + size + "&since=" + since,
+                token,
+                null);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        return objectMapper.readValue(response.getBody(), JSON_OBJECT);
     }
 
     private String createInvite(String token, String workspaceId, String email, String role) throws Exception {
@@ -148,12 +1088,34 @@ class IntegrationTests {
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
     }
 
+    private ResponseEntity<String> getAt(String url, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers;
+    }
+
     private ResponseEntity<String> exchange(
             HttpMethod method,
             String path,
             String token,
             Object body) {
+        return exchange(method, path, token, body, new HttpHeaders());
+    }
+
+    private ResponseEntity<String> exchange(
+            HttpMethod method,
+            String path,
+            String token,
+            Object body,
+            HttpHeaders extraHeaders) {
         HttpHeaders headers = new HttpHeaders();
+        headers.addAll(extraHeaders);
         headers.setContentType(MediaType.APPLICATION_JSON);
         if (token != null) {
             headers.setBearerAuth(token);
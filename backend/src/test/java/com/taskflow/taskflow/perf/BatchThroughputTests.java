@@ -0,0 +1,115 @@
+package com.taskflow.taskflow.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Creates {@code batch.rows} tasks one request at a time and then through {@code POST /projects/{id}/tasks:batch}
+ * in requests of {@code batch.size} items, after a warm-up round of each, and reports rows/s for both. The
+ * batch path should beat single-item creates by a wide margin.
+ *
+ * <p>{@code mvn test -Pperf -Dtest=BatchThroughputTests [-Dbatch.rows=5000 -Dbatch.size=500]}
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class BatchThroughputTests {
+
+    private static final int ROWS = Integer.getInteger("batch.rows", 2000);
+    private static final int BATCH_SIZE = Integer.getInteger("batch.size", 200);
+    private static final int WARMUP_ROWS = Integer.getInteger("batch.warmup-rows", 400);
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.rate-limit.enabled", () -> false);
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void batchCreatesOutrunSingleItemCreates() throws Exception {
+        send("POST", "/auth/register", null, Map.of("email", "batch-perf@example.com", "password", "password123"));
+        String token = objectMapper.readTree(send("POST", "/auth/login", null,
+                Map.of("email", "batch-perf@example.com", "password", "password123"))).get("accessToken").asText();
+        String workspaceId = objectMapper.readTree(send("POST", "/workspaces", token, Map.of("name", "Batch Perf")))
+                .get("id").asText();
+        String projectId = objectMapper.readTree(send("POST", "/workspaces/" + workspaceId + "/projects", token,
+                Map.of("name", "Batch Perf"))).get("id").asText();
+
+        createSingly(token, projectId, WARMUP_ROWS);
+        createInBatches(token, projectId, WARMUP_ROWS);
+
+        long started = System.nanoTime();
+        createSingly(token, projectId, ROWS);
+        double singleRowsPerSecond = ROWS / ((System.nanoTime() - started) / 1e9);
+
+        started = System.nanoTime();
+        createInBatches(token, projectId, ROWS);
+        double batchRowsPerSecond = ROWS / ((System.nanoTime() - started) / 1e9);
+
+        System.out.printf("task creates, %d rows: single %.0f rows/s; batch of %d %.0f rows/s (%.1fx)%n",
+                ROWS, singleRowsPerSecond, BATCH_SIZE, batchRowsPerSecond, batchRowsPerSecond / singleRowsPerSecond);
+        assertThat(batchRowsPerSecond).isGreaterThan(singleRowsPerSecond);
+    }
+
+    private void createSingly(String token, String projectId, int rows) throws Exception {
+        for (int i = 0; i < rows; i++) {
+            send("POST", "/projects/" + projectId + "/tasks", token, Map.of("title", "Single task " + i));
+        }
+    }
+
+    private void createInBatches(String token, String projectId, int rows) throws Exception {
+        for (int from = 0; from < rows; from += BATCH_SIZE) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int i = from; i < Math.min(rows, from + BATCH_SIZE); i++) {
+                items.add(Map.of("title", "Batch task " + i));
+            }
+            send("POST", "/projects/" + projectId + "/tasks:batch", token, Map.of("items", items));
+        }
+    }
+
+    private String send(String method, String path, String token, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("%s %s", method, path).isBetween(200, 299);
+        return response.body();
+    }
+}
@@ -0,0 +1,378 @@
+package com.taskflow.taskflow.perf;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Generates a production-shaped dataset and bulk-loads it with {@code COPY} into a Flyway-migrated schema.
+ *
+ * <p>Workspace sizes follow a Zipf distribution, so a few tenants hold most tasks; descriptions have
+ * log-normal lengths and per-task comment counts are heavy-tailed. Every row is derived from the spec seed
+ * and its own index, so the same spec loads identical data and nothing has to be kept in memory between
+ * tables. All users share the password {@link #PASSWORD}.
+ *
+ * <p>Run standalone with {@code -Ddataset.url=jdbc:postgresql://... -Ddataset.username=... -Ddataset.password=...}
+ * plus any {@link DatasetSpec#fromSystemProperties()} overrides.
+ */
+public final class DatasetGenerator {
+
+    public static final String PASSWORD = "password123";
+
+    private static final long HISTORY_MILLIS = Duration.ofDays(730).toMillis();
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final double COMMENT_TAIL = 1.5;
+    private static final int MAX_COMMENTS_PER_TASK = 1_000;
+    private static final int MAX_DESCRIPTION_WORDS = 2_000;
+    // Same limit as TaskCreateRequest, so loaded rows look like rows created through the API.
+    private static final int MAX_DESCRIPTION_LENGTH = 5_000;
+
+    private static final int USER = 1;
+    private static final int WORKSPACE = 2;
+    private static final int MEMBER = 3;
+    private static final int PROJECT = 4;
+    private static final int TASK = 5;
+    private static final int DESCRIPTION = 6;
+    private static final int COMMENT = 7;
+
+    private static final String[] WORDS = (
+            "api backend bug build cache client config customer dashboard data deploy design docs error "
+            + "feature fix frontend index invoice latency login metric migration mobile onboarding page "
+            + "payment performance query release report review schema search security server session "
+            + "signup sprint support sync test timeout token update upgrade user workflow")
+            .split(" ");
+
+    private static final String REBUILD_COUNTERS_SQL = """
+            INSERT INTO task_counters (workspace_id, project_id, status, priority, task_count)
+            SELECT workspace_id, project_id, status, priority, count(*)
+            FROM tasks
+            GROUP BY workspace_id, project_id, status, priority
+            ON CONFLICT (workspace_id, project_id, status, priority)
+            DO UPDATE SET task_count = EXCLUDED.task_count
+            """;
+
+    private final DatasetSpec spec;
+    private final long startMillis;
+    private final double[] cumulativeShare;
+    private final int[] memberCounts;
+    private final int[] memberStarts;
+    private final int[] projectCounts;
+    private final int[] projectOffsets;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.startMillis = spec.epoch().toEpochMilli() - HISTORY_MILLIS;
+        int workspaces = spec.workspaces();
+        double[] weights = new double[workspaces];
+        double total = 0;
+        for (int w = 0; w < workspaces; w++) {
+            weights[w] = 1 / Math.pow(w + 1, spec.tenantSkew());
+            total += weights[w];
+        }
+        this.cumulativeShare = new double[workspaces];
+        this.memberCounts = new int[workspaces];
+        this.memberStarts = new int[workspaces];
+        this.projectCounts = new int[workspaces];
+        this.projectOffsets = new int[workspaces];
+        int largestTenantMembers = Math.max(2, spec.users() / 5);
+        double running = 0;
+        int projectOffset = 0;
+        for (int w = 0; w < workspaces; w++) {
+            double share = weights[w] / total;
+            running += share;
+            cumulativeShare[w] = running;
+            memberCounts[w] = Math.max(2, Math.min(spec.users(), (int) Math.ceil(largestTenantMembers * weights[w] / weights[0])));
+            memberStarts[w] = (int) Math.floorMod(hash(WORKSPACE, w), (long) spec.users());
+            projectCounts[w] = Math.max(1, (int) Math.round(spec.projects() * share));
+            projectOffsets[w] = projectOffset;
+            projectOffset += projectCounts[w];
+        }
+        cumulativeShare[workspaces - 1] = 1.0;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("dataset.url");
+        String username = System.getProperty("dataset.username");
+        String password = System.getProperty("dataset.password");
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            long started = System.nanoTime();
+            DatasetSummary summary = new DatasetGenerator(DatasetSpec.fromSystemProperties()).load(connection);
+            System.out.printf("Loaded %s in %ds%n", summary, Duration.ofNanos(System.nanoTime() - started).toSeconds());
+        }
+    }
+
+    /**
+     * Loads the whole dataset in one transaction, rebuilds {@code task_counters} and refreshes planner statistics.
+     */
+    public DatasetSummary load(Connection connection) throws SQLException, IOException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder().encode(PASSWORD);
+            copy(pgConnection, "users (id, email, password_hash, created_at, updated_at)", out -> writeUsers(out, passwordHash));
+            copy(pgConnection, "workspaces (id, name, created_by, created_at, updated_at)", this::writeWorkspaces);
+            long memberships = copy(pgConnection, "workspace_members (workspace_id, user_id, role, created_at)",
+                    this::writeMemberships);
+            copy(pgConnection, "projects (id, workspace_id, name, description, created_at, updated_at)", this::writeProjects);
+            copy(pgConnection, "tasks (id, workspace_id, project_id, title, description, status, priority, "
+                    + "assignee_id, created_by, due_date, version, created_at, updated_at)", this::writeTasks);
+            long comments = copy(pgConnection, "comments (id, task_id, workspace_id, author_id, body, created_at, updated_at)",
+                    this::writeComments);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(REBUILD_COUNTERS_SQL);
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+            return new DatasetSummary(spec.users(), spec.workspaces(), memberships,
+                    projectOffsets[spec.workspaces() - 1] + projectCounts[spec.workspaces() - 1], spec.tasks(), comments);
+        } catch (SQLException | IOException | RuntimeException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    public String email(int user) {
+        return "user" + user + "@dataset.test";
+    }
+
+    public UUID workspaceId(int workspace) {
+        return id(WORKSPACE, workspace, startMillis + workspace);
+    }
+
+    public int memberCount(int workspace) {
+        return memberCounts[workspace];
+    }
+
+    /**
+     * The {@code index}-th member of a workspace; member 0 is its owner.
+     */
+    public int member(int workspace, int index) {
+        return (memberStarts[workspace] + index) % spec.users();
+    }
+
+    public UUID userId(int user) {
+        return id(USER, user, startMillis + user);
+    }
+
+    private long writeUsers(Writer out, String passwordHash) throws IOException {
+        for (int u = 0; u < spec.users(); u++) {
+            String createdAt = timestamp(startMillis + u);
+            row(out, userId(u), email(u), passwordHash, createdAt, createdAt);
+        }
+        return spec.users();
+    }
+
+    private long writeWorkspaces(Writer out) throws IOException {
+        for (int w = 0; w < spec.workspaces(); w++) {
+            String createdAt = timestamp(startMillis + w);
+            row(out, workspaceId(w), "Tenant " + w, userId(member(w, 0)), createdAt, createdAt);
+        }
+        return spec.workspaces();
+    }
+
+    private long writeMemberships(Writer out) throws IOException {
+        long rows = 0;
+        for (int w = 0; w < spec.workspaces(); w++) {
+            String createdAt = timestamp(startMillis + w);
+            for (int j = 0; j < memberCounts[w]; j++) {
+                row(out, workspaceId(w), userId(member(w, j)), role(w, j), createdAt);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeProjects(Writer out) throws IOException {
+        for (int w = 0; w < spec.workspaces(); w++) {
+            for (int k = 0; k < projectCounts[w]; k++) {
+                String createdAt = timestamp(startMillis + w);
+                row(out, projectId(w, k), workspaceId(w), "Project " + k, null, createdAt, createdAt);
+            }
+        }
+        return projectOffsets[spec.workspaces() - 1] + projectCounts[spec.workspaces() - 1];
+    }
+
+    private long writeTasks(Writer out) throws IOException {
+        for (long i = 0; i < spec.tasks(); i++) {
+            TaskDraft task = task(i);
+            row(out, task.id(), workspaceId(task.workspace()), projectId(task.workspace(), task.project()),
+                    task.title(), description(i), task.status(), task.priority(),
+                    task.assignee() < 0 ? null : userId(task.assignee()), userId(task.creator()),
+                    task.dueDate(), 0, timestamp(task.createdMillis()), timestamp(task.updatedMillis()));
+        }
+        return spec.tasks();
+    }
+
+    private long writeComments(Writer out) throws IOException {
+        long rows = 0;
+        for (long i = 0; i < spec.tasks(); i++) {
+            TaskDraft task = task(i);
+            if (task.comments() == 0) {
+                continue;
+            }
+            SplittableRandom random = new SplittableRandom(hash(COMMENT, i));
+            long span = Math.max(1, spec.epoch().toEpochMilli() - task.createdMillis());
+            for (int c = 0; c < task.comments(); c++) {
+                long createdMillis = task.createdMillis() + (long) (random.nextDouble() * span);
+                int author = member(task.workspace(), random.nextInt(memberCounts[task.workspace()]));
+                String createdAt = timestamp(createdMillis);
+                row(out, id(COMMENT, index(i, c), createdMillis), task.id(), workspaceId(task.workspace()),
+                        userId(author), words(random, 5 + (int) Math.min(300, Math.exp(2 + random.nextGaussian()))),
+                        createdAt, createdAt);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private TaskDraft task(long index) {
+        SplittableRandom random = new SplittableRandom(hash(TASK, index));
+        int workspace = Arrays.binarySearch(cumulativeShare, random.nextDouble());
+        workspace = workspace < 0 ? -workspace - 1 : workspace;
+        int project = random.nextInt(projectCounts[workspace]);
+        long createdMillis = startMillis + (long) (random.nextDouble() * HISTORY_MILLIS);
+        long updatedMillis = createdMillis + (long) (random.nextDouble() * (spec.epoch().toEpochMilli() - createdMillis));
+        int creator = member(workspace, random.nextInt(memberCounts[workspace]));
+        int assignee = random.nextInt(5) == 0 ? -1 : member(workspace, random.nextInt(memberCounts[workspace]));
+        double statusRoll = random.nextDouble();
+        int status = statusRoll < 0.5 ? 3 : statusRoll < 0.7 ? 2 : 1;
+        double priorityRoll = random.nextDouble();
+        int priority = priorityRoll < 0.3 ? 1 : priorityRoll < 0.8 ? 2 : 3;
+        String dueDate = random.nextInt(3) == 0
+                ? null
+                : LocalDate.ofInstant(Instant.ofEpochMilli(createdMillis), ZoneOffset.UTC).plusDays(random.nextInt(90)).toString();
+        double meanComments = spec.tasks() == 0 ? 0 : (double) spec.comments() / spec.tasks();
+        double scale = meanComments * (COMMENT_TAIL - 1);
+        int comments = (int) Math.min(MAX_COMMENTS_PER_TASK,
+                Math.round(scale * (Math.pow(1 - random.nextDouble(), -1 / COMMENT_TAIL) - 1)));
+        String title = words(random, 3 + random.nextInt(8));
+        return new TaskDraft(id(TASK, index, createdMillis), workspace, project, createdMillis, updatedMillis,
+                creator, assignee, status, priority, dueDate, comments, title);
+    }
+
+    private String description(long index) {
+        SplittableRandom random = new SplittableRandom(hash(DESCRIPTION, index));
+        if (random.nextInt(10) < 3) {
+            return null;
+        }
+        String text = words(random, 1 + (int) Math.min(MAX_DESCRIPTION_WORDS, Math.exp(3.5 + 1.2 * random.nextGaussian())));
+        return text.length() > MAX_DESCRIPTION_LENGTH ? text.substring(0, MAX_DESCRIPTION_LENGTH) : text;
+    }
+
+    public String role(int workspace, int index) {
+        if (index == 0) {
+            return "OWNER";
+        }
+        long roll = Math.floorMod(hash(MEMBER, (long) workspace << 32 | index), 10L);
+        return roll == 0 ? "ADMIN" : roll < 3 ? "VIEWER" : "MEMBER";
+    }
+
+    private static long index(long task, int comment) {
+        return task * MAX_COMMENTS_PER_TASK + comment;
+    }
+
+    private UUID projectId(int workspace, int project) {
+        return id(PROJECT, projectOffsets[workspace] + project, startMillis + workspace);
+    }
+
+    /**
+     * Version 7 layout with a deterministic timestamp and random bits, like ids the application generates.
+     */
+    private UUID id(int kind, long index, long millis) {
+        SplittableRandom random = new SplittableRandom(hash(kind, index) ^ 0x5DEECE66DL);
+        long mostSigBits = millis << 16 | 0x7000L | (random.nextLong() & 0xFFFL);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long hash(int kind, long index) {
+        return mix(mix(spec.seed() + kind * 0x9E3779B97F4A7C15L) + index);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(i % 12 == 0 ? ". " : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static String timestamp(long millis) {
+        return Instant.ofEpochMilli(millis).toString();
+    }
+
+    private static long copy(PGConnection connection, String target, RowWriter writer) throws SQLException, IOException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection, "COPY " + target + " FROM STDIN WITH (FORMAT csv)");
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+            return writer.write(out);
+        }
+    }
+
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else if (value != null) {
+                out.write(value.toString());
+            }
+        }
+        out.write('\n');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        long write(Writer out) throws IOException;
+    }
+
+    private record TaskDraft(
+            UUID id,
+            int workspace,
+            int project,
+            long createdMillis,
+            long updatedMillis,
+            int creator,
+            int assignee,
+            int status,
+            int priority,
+            String dueDate,
+            int comments,
+            String title) {
+    }
+}
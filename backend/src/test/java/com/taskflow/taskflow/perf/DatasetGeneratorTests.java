@@ -0,0 +1,78 @@
+package com.taskflow.taskflow.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Tag("perf")
+@Testcontainers(disabledWithoutDocker = true)
+class DatasetGeneratorTests {
+
+    private static final DatasetSpec SPEC =
+            new DatasetSpec(7L, 200, 20, 60, 20_000, 60_000, 1.1, Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Test
+    void loadsSkewedDataDeterministically() throws Exception {
+        try (Connection admin = connect(postgres.getJdbcUrl()); Statement statement = admin.createStatement()) {
+            statement.execute("CREATE DATABASE replay");
+        }
+        String replayUrl = postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName() + "?", "/replay?");
+
+        DatasetSummary summary = load(postgres.getJdbcUrl());
+        DatasetSummary replay = load(replayUrl);
+        assertThat(replay).isEqualTo(summary);
+
+        try (Connection first = connect(postgres.getJdbcUrl()); Connection second = connect(replayUrl)) {
+            assertThat(count(first, "SELECT count(*) FROM tasks")).isEqualTo(SPEC.tasks());
+            assertThat(count(first, "SELECT count(*) FROM comments")).isEqualTo(summary.comments());
+            assertThat(count(first, "SELECT sum(task_count) FROM task_counters")).isEqualTo(SPEC.tasks());
+            // The largest tenant should dwarf the median one.
+            assertThat(count(first, """
+                    SELECT max(n) / percentile_disc(0.5) WITHIN GROUP (ORDER BY n)
+                    FROM (SELECT count(*) AS n FROM tasks GROUP BY workspace_id) sizes
+                    """)).isGreaterThan(5);
+            String checksum = "SELECT md5(string_agg(id::text || title || status, ',' ORDER BY id)) FROM tasks";
+            assertThat(text(second, checksum)).isEqualTo(text(first, checksum));
+        }
+    }
+
+    private DatasetSummary load(String url) throws Exception {
+        Flyway.configure().dataSource(url, postgres.getUsername(), postgres.getPassword()).load().migrate();
+        try (Connection connection = connect(url)) {
+            return new DatasetGenerator(SPEC).load(connection);
+        }
+    }
+
+    private Connection connect(String url) throws Exception {
+        return DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+    }
+
+    private long count(Connection connection, String sql) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private String text(Connection connection, String sql) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
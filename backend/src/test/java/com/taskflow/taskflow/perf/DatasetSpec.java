@@ -0,0 +1,42 @@
+package com.taskflow.taskflow.perf;
+
+import java.time.Instant;
+
+/**
+ * Size and shape of a generated dataset. The same spec always produces the same rows.
+ *
+ * @param tenantSkew Zipf exponent for workspace sizes; higher means a few giant tenants hold more of the data
+ * @param epoch the generated history ends here; fixed so runs do not depend on the wall clock
+ */
+public record DatasetSpec(
+        long seed,
+        int users,
+        int workspaces,
+        int projects,
+        long tasks,
+        long comments,
+        double tenantSkew,
+        Instant epoch
+) {
+
+    public DatasetSpec {
+        if (users < 2 || workspaces < 1 || projects < 1 || tasks < 0 || comments < 0) {
+            throw new IllegalArgumentException("Dataset needs at least 2 users, 1 workspace and 1 project");
+        }
+    }
+
+    /**
+     * Reads {@code -Ddataset.*} overrides; defaults describe a mid-sized production install.
+     */
+    public static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                Long.getLong("dataset.seed", 42L),
+                Integer.getInteger("dataset.users", 5_000),
+                Integer.getInteger("dataset.workspaces", 500),
+                Integer.getInteger("dataset.projects", 2_500),
+                Long.getLong("dataset.tasks", 2_000_000L),
+                Long.getLong("dataset.comments", 6_000_000L),
+                Double.parseDouble(System.getProperty("dataset.tenant-skew", "1.1")),
+                Instant.parse(System.getProperty("dataset.epoch", "2026-01-01T00:00:00Z")));
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.perf;
+
+public record DatasetSummary(
+        long users,
+        long workspaces,
+        long memberships,
+        long projects,
+        long tasks,
+        long comments
+) {
+}
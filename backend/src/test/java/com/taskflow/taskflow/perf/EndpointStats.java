@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.perf;
+
+public record EndpointStats(
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis
+) {
+}
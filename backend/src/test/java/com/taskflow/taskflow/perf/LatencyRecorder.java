@@ -0,0 +1,44 @@
+package com.taskflow.taskflow.perf;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Keeps every sample so percentiles are exact; a load test run records at most a few million.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos, boolean ok) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    synchronized EndpointStats stats(Duration measured) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new EndpointStats(
+                size,
+                errors,
+                size / (measured.toNanos() / 1e9),
+                millis(sorted, 0.50),
+                millis(sorted, 0.95),
+                millis(sorted, 0.99));
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1e6;
+    }
+}
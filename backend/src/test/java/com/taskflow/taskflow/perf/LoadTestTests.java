@@ -0,0 +1,239 @@
+package com.taskflow.taskflow.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Boots the application on a generated dataset and drives a mixed workload against the largest tenant from
+ * {@code load.concurrency} clients. It reports latency percentiles and throughput per endpoint and fails
+ * when an endpoint regresses beyond {@code load.tolerance} against the stored baseline.
+ *
+ * <p>{@code mvn test -Pperf -Dtest=LoadTestTests [-Dload.concurrency=32 -Dload.duration=PT2M]}. Add
+ * {@code -Dload.update-baseline=true} to record the run as the new baseline.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class LoadTestTests {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT15S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.update-baseline");
+    private static final Path BASELINE = Path.of("src/test/resources/perf/load-test-baseline.json");
+    private static final Path REPORT = Path.of("target/perf/load-test.json");
+    private static final List<String> SORTS = List.of("createdAt,desc", "updatedAt,desc", "dueDate,asc", "priority,desc");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> Math.max(10, CONCURRENCY));
+        registry.add("app.rate-limit.enabled", () -> false);
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws Exception {
+        DatasetGenerator dataset = new DatasetGenerator(DatasetSpec.fromSystemProperties());
+        try (Connection connection = dataSource.getConnection()) {
+            dataset.load(connection);
+        }
+        List<String> emails = new ArrayList<>();
+        for (int j = 0; j < dataset.memberCount(0); j++) {
+            if (!"VIEWER".equals(dataset.role(0, j)) && !"MEMBER".equals(dataset.role(0, j))) {
+                emails.add(dataset.email(dataset.member(0, j)));
+            }
+        }
+        String workspaceId = dataset.workspaceId(0).toString();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            String email = emails.get(i % emails.size());
+            long seed = i;
+            workers.add(clients.submit(() -> {
+                run(new SplittableRandom(seed), email, workspaceId);
+                return null;
+            }));
+        }
+        Thread.sleep(WARMUP.toMillis());
+        recording = true;
+        Thread.sleep(DURATION.toMillis());
+        stopped = true;
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        clients.shutdown();
+
+        Map<String, EndpointStats> results = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> results.put(endpoint, recorder.stats(DURATION)));
+        report(results);
+        for (Map.Entry<String, EndpointStats> result : results.entrySet()) {
+            assertThat(result.getValue().errors())
+                    .as("errors on %s", result.getKey())
+                    .isLessThanOrEqualTo(result.getValue().requests() / 100);
+        }
+        compareWithBaseline(results);
+    }
+
+    private void run(SplittableRandom random, String email, String workspaceId) throws Exception {
+        String token = login(email);
+        List<String> taskIds = List.of();
+        while (!stopped) {
+            int roll = random.nextInt(100);
+            if (roll < 5) {
+                token = login(email);
+            } else if (roll < 45 || taskIds.isEmpty()) {
+                JsonNode page = objectMapper.readTree(send("GET /workspaces/{id}/tasks", token,
+                        "GET", "/workspaces/" + workspaceId + "/tasks?size=20&sort=" + SORTS.get(random.nextInt(SORTS.size()))
+                                + filter(random), null));
+                List<String> ids = new ArrayList<>();
+                page.path("content").forEach(task -> ids.add(task.get("id").asText()));
+                if (!ids.isEmpty()) {
+                    taskIds = ids;
+                }
+            } else {
+                String taskId = taskIds.get(random.nextInt(taskIds.size()));
+                if (roll < 70) {
+                    send("GET /tasks/{id}", token, "GET", "/tasks/" + taskId, null);
+                } else if (roll < 85) {
+                    String status = List.of("TODO", "IN_PROGRESS", "DONE").get(random.nextInt(3));
+                    send("PATCH /tasks/{id}", token, "PATCH", "/tasks/" + taskId, "{\"status\":\"" + status + "\"}");
+                } else if (roll < 95) {
+                    send("POST /tasks/{id}/comments", token, "POST", "/tasks/" + taskId + "/comments",
+                            "{\"body\":\"load test comment " + random.nextInt() + "\"}");
+                } else {
+                    send("GET /tasks/{id}/comments", token, "GET", "/tasks/" + taskId + "/comments", null);
+                }
+            }
+        }
+    }
+
+    private String filter(SplittableRandom random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> "&status=" + List.of("TODO", "IN_PROGRESS", "DONE").get(random.nextInt(3));
+            case 1 -> "&priority=" + List.of("LOW", "MED", "HIGH").get(random.nextInt(3));
+            default -> "";
+        };
+    }
+
+    private String login(String email) throws Exception {
+        String body = send("POST /auth/login", null, "POST", "/auth/login",
+                objectMapper.writeValueAsString(Map.of("email", email, "password", DatasetGenerator.PASSWORD)));
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    private String send(String endpoint, String token, String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, json == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(json))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        long started = System.nanoTime();
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - started;
+        if (recording && !stopped) {
+            boolean ok = response.statusCode() / 100 == 2;
+            recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder()).record(elapsed, ok);
+        }
+        return response.body();
+    }
+
+    private void report(Map<String, EndpointStats> results) throws Exception {
+        System.out.printf("%-28s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        results.forEach((endpoint, stats) -> System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.requests(), stats.errors(), stats.throughput(),
+                stats.p50Millis(), stats.p95Millis(), stats.p99Millis()));
+        ObjectMapper writer = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(REPORT.getParent());
+        writer.writeValue(REPORT.toFile(), results);
+        if (UPDATE_BASELINE) {
+            Files.createDirectories(BASELINE.getParent());
+            writer.writeValue(BASELINE.toFile(), results);
+        }
+    }
+
+    private void compareWithBaseline(Map<String, EndpointStats> results) throws Exception {
+        if (UPDATE_BASELINE || !Files.exists(BASELINE)) {
+            System.out.println("No baseline compared; record one with -Dload.update-baseline=true");
+            return;
+        }
+        Map<String, EndpointStats> baseline = objectMapper.readValue(
+                BASELINE.toFile(), new TypeReference<Map<String, EndpointStats>>() { });
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            EndpointStats actual = results.get(endpoint);
+            if (actual == null) {
+                return;
+            }
+            if (actual.p95Millis() > expected.p95Millis() * (1 + TOLERANCE)) {
+                regressions.add("%s p95 %.2f ms > baseline %.2f ms".formatted(endpoint, actual.p95Millis(), expected.p95Millis()));
+            }
+            if (actual.p99Millis() > expected.p99Millis() * (1 + TOLERANCE)) {
+                regressions.add("%s p99 %.2f ms > baseline %.2f ms".formatted(endpoint, actual.p99Millis(), expected.p99Millis()));
+            }
+            if (actual.throughput() < expected.throughput() * (1 - TOLERANCE)) {
+                regressions.add("%s %.1f req/s < baseline %.1f req/s".formatted(endpoint, actual.throughput(), expected.throughput()));
+            }
+        });
+        assertThat(regressions).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskflow.taskflow.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Measures task read latency alone and then while {@code storm.clients} clients log in as fast as they can.
+ * Password hashing is confined to its own pool, so read p99 should barely move and excess logins should be
+ * turned away with 503 rather than queue.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class LoginStormTests {
+
+    private static final int READERS = Integer.getInteger("storm.readers", 8);
+    private static final int STORM_CLIENTS = Integer.getInteger("storm.clients", 64);
+    private static final Duration PHASE = Duration.parse(System.getProperty("storm.phase", "PT20S"));
+    private static final DatasetSpec SPEC =
+            new DatasetSpec(11L, 500, 10, 40, 50_000, 0, 1.1, Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.rate-limit.enabled", () -> false);
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void taskReadsStayFlatDuringLoginStorm() throws Exception {
+        DatasetGenerator dataset = new DatasetGenerator(SPEC);
+        try (Connection connection = dataSource.getConnection()) {
+            dataset.load(connection);
+        }
+        String ownerEmail = dataset.email(dataset.member(0, 0));
+        String token = objectMapper.readTree(login(ownerEmail).body()).get("accessToken").asText();
+        JsonNode page = objectMapper.readTree(get("/workspaces/" + dataset.workspaceId(0) + "/tasks?size=50", token).body());
+        List<String> taskIds = new ArrayList<>();
+        page.path("content").forEach(task -> taskIds.add(task.get("id").asText()));
+
+        EndpointStats quiet = readPhase(token, taskIds, false, new ConcurrentHashMap<>());
+        Map<Integer, AtomicLong> loginStatuses = new ConcurrentHashMap<>();
+        EndpointStats storm = readPhase(token, taskIds, true, loginStatuses);
+
+        System.out.printf("reads quiet: p50 %.2f p99 %.2f ms; during storm: p50 %.2f p99 %.2f ms; logins %s%n",
+                quiet.p50Millis(), quiet.p99Millis(), storm.p50Millis(), storm.p99Millis(), loginStatuses);
+        assertThat(quiet.errors()).isZero();
+        assertThat(storm.errors()).isZero();
+        assertThat(loginStatuses.keySet()).isSubsetOf(200, 503);
+        assertThat(storm.p99Millis()).isLessThanOrEqualTo(Math.max(quiet.p99Millis() * 2, quiet.p99Millis() + 25));
+    }
+
+    private EndpointStats readPhase(String token, List<String> taskIds, boolean storm, Map<Integer, AtomicLong> loginStatuses)
+            throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(READERS + (storm ? STORM_CLIENTS : 0));
+        LatencyRecorder reads = new LatencyRecorder();
+        long deadline = System.nanoTime() + PHASE.toNanos();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            int offset = i;
+            workers.add(threads.submit(() -> {
+                for (int n = offset; System.nanoTime() < deadline; n++) {
+                    long started = System.nanoTime();
+                    int status = get("/tasks/" + taskIds.get(n % taskIds.size()), token).statusCode();
+                    reads.record(System.nanoTime() - started, status == 200);
+                }
+                return null;
+            }));
+        }
+        if (storm) {
+            DatasetGenerator dataset = new DatasetGenerator(SPEC);
+            for (int i = 0; i < STORM_CLIENTS; i++) {
+                String email = dataset.email(i % SPEC.users());
+                workers.add(threads.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        int status = login(email).statusCode();
+                        loginStatuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        threads.shutdown();
+        return reads.stats(PHASE);
+    }
+
+    private HttpResponse<String> login(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", DatasetGenerator.PASSWORD));
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .header("Content-Type", "application/json")
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header("Authorization", "Bearer " + token)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.taskflow.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.taskflow.persistence.UuidV7Generator;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Inserts the same number of rows into two UUID-keyed tables, one with random (v4) and one with
+ * time-ordered (v7) keys, and reports insert throughput per segment and final primary key index size.
+ * Run with {@code mvn test -Pperf}; the row count is {@code -Dperf.rows} (default 2,000,000).
+ */
+@Tag("perf")
+@Testcontainers(disabledWithoutDocker = true)
+class UuidV7InsertBenchmarkTests {
+
+    private static final int ROWS = Integer.getInteger("perf.rows", 2_000_000);
+    private static final int SEGMENTS = 4;
+    private static final int BATCH_SIZE = 1000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Test
+    void timeOrderedKeysInsertFasterIntoSmallerIndexes() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true", postgres.getUsername(), postgres.getPassword())) {
+            Result random = run(connection, "ids_v4", UUID::randomUUID);
+            Result ordered = run(connection, "ids_v7", UuidV7Generator::next);
+
+            System.out.printf("%-8s %14s %14s%n", "keys", "index bytes", "rows/s per segment");
+            for (Result result : List.of(random, ordered)) {
+                System.out.printf("%-8s %14d %s%n", result.table(), result.indexBytes(), result.rowsPerSecond());
+            }
+            assertThat(ordered.indexBytes()).isLessThan(random.indexBytes());
+        }
+    }
+
+    private Result run(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload TEXT NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        List<Long> rowsPerSecond = new ArrayList<>();
+        int segmentRows = ROWS / SEGMENTS;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int segment = 0; segment < SEGMENTS; segment++) {
+                long started = System.nanoTime();
+                for (int i = 0; i < segmentRows; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "task " + i);
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+                rowsPerSecond.add(segmentRows * 1_000_000_000L / (System.nanoTime() - started));
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            return new Result(table, rs.getLong(1), rowsPerSecond);
+        }
+    }
+
+    private record Result(String table, long indexBytes, List<Long> rowsPerSecond) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.taskflow.taskflow.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.auth.jwt.UserPrincipal;
+import com.taskflow.taskflow.task.dto.TaskCursorPage;
+import com.taskflow.taskflow.user.UserRepository;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs every supported task list request through {@link TaskService} against a seeded workspace: each sort
+ * field in both directions, crossed with every combination of the status, priority and assignee filters,
+ * as an offset page (with its {@code count(*)}) and as a first and a follow-up cursor page. The SQL
+ * Hibernate emits is captured and planned with {@code EXPLAIN (GENERIC_PLAN)}, the plan a reused prepared
+ * statement settles on, and the test fails if any statement on {@code tasks} needs a sequential scan or a
+ * sort step.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class TaskQueryPlanTests {
+
+    private static final int TASKS = 200_000;
+    private static final UUID WORKSPACE = UUID.fromString("00000000-0000-7000-8000-000000000001");
+    private static final UUID MEMBER = UUID.fromString("00000000-0000-7000-8000-000000000101");
+    private static final UUID ASSIGNEE = UUID.fromString("00000000-0000-7000-8000-000000000102");
+    private static final Pattern TASKS_TABLE = Pattern.compile("\\bfrom tasks\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.cluster.events.enabled", () -> false);
+    }
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    CapturedSql capturedSql;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void seed() throws Exception {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        try (Connection connection = postgres.createConnection(""); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, email, password_hash, created_at, updated_at)
+                    SELECT ('00000000-0000-7000-8000-' || lpad(to_hex(256 + n), 12, '0'))::uuid,
+                           'plan' || n || '@example.com', 'x', now(), now()
+                    FROM generate_series(1, 50) n
+                    """);
+            statement.execute("""
+                    INSERT INTO workspaces (id, name, created_by, created_at, updated_at)
+                    SELECT ('00000000-0000-7000-8000-' || lpad(to_hex(n), 12, '0'))::uuid, 'Plan ' || n,
+                           '%s', now(), now()
+                    FROM generate_series(1, 10) n
+                    """.formatted(MEMBER));
+            statement.execute("""
+                    INSERT INTO workspace_members (workspace_id, user_id, role, created_at)
+                    VALUES ('%s', '%s', 'OWNER', now())
+                    """.formatted(WORKSPACE, MEMBER));
+            statement.execute("""
+                    INSERT INTO projects (id, workspace_id, name, created_at, updated_at)
+                    SELECT gen_random_uuid(), w.id, 'Plan project', now(), now() FROM workspaces w
+                    """);
+            // Most rows belong to one tenant; the rest are spread over the others.
+            statement.execute("""
+                    INSERT INTO tasks (id, workspace_id, project_id, title, status, priority, assignee_id,
+                                       created_by, due_date, version, created_at, updated_at)
+                    SELECT uuid_generate_v7(), p.workspace_id, p.id, 'Task ' || n,
+                           1 + n %% 3, 1 + (n / 3) %% 3,
+                           CASE WHEN n %% 5 = 0 THEN NULL
+                                ELSE ('00000000-0000-7000-8000-' || lpad(to_hex(257 + n %% 50), 12, '0'))::uuid END,
+                           '%s',
+                           CASE WHEN n %% 3 = 0 THEN NULL ELSE current_date + (n %% 365) END,
+                           0, now() - n * interval '1 minute', now() - (n %% 10000) * interval '1 second'
+                    FROM generate_series(1, %d) n
+                    JOIN projects p ON p.workspace_id = CASE WHEN n %% 10 < 8 THEN '%s'::uuid
+                        ELSE ('00000000-0000-7000-8000-' || lpad(to_hex(2 + n %% 9), 12, '0'))::uuid END
+                    """.formatted(MEMBER, TASKS, WORKSPACE));
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void everyListShapeIsServedInIndexOrder() throws Exception {
+        UserPrincipal principal = new UserPrincipal(userRepository.findById(MEMBER).orElseThrow());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        capturedSql.clear();
+        for (String field : TaskService.ALLOWED_SORT_FIELDS) {
+            for (String direction : List.of("asc", "desc")) {
+                String sort = field + "," + direction;
+                for (int filters = 0; filters < 8; filters++) {
+                    TaskStatus status = (filters & 1) != 0 ? TaskStatus.IN_PROGRESS : null;
+                    TaskPriority priority = (filters & 2) != 0 ? TaskPriority.HIGH : null;
+                    UUID assignee = (filters & 4) != 0 ? ASSIGNEE : null;
+                    for (int page = 0; page < 2; page++) {
+                        taskService.list(WORKSPACE, status, priority, assignee, null, page, 20, sort, false);
+                    }
+                    TaskCursorPage first = taskService.listByCursor(
+                            WORKSPACE, status, priority, assignee, null, null, 20, sort, false);
+                    assertThat(first.nextCursor()).as("cursor for %s %s", sort, filters).isNotNull();
+                    taskService.listByCursor(WORKSPACE, status, priority, assignee, null, first.nextCursor(), 20, sort, false);
+                }
+            }
+        }
+
+        Set<String> statements = new LinkedHashSet<>();
+        for (String sql : capturedSql.statements()) {
+            if (TASKS_TABLE.matcher(sql).find()) {
+                statements.add(sql);
+            }
+        }
+        assertThat(statements).anyMatch(sql -> sql.toLowerCase().contains("count("));
+
+        List<String> failures = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : statements) {
+                List<String> nodes = new ArrayList<>();
+                collectNodeTypes(explain(connection, sql), nodes);
+                if (nodes.contains("Seq Scan") || nodes.stream().anyMatch(node -> node.endsWith("Sort"))) {
+                    failures.add(nodes + " <- " + sql);
+                }
+            }
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    /**
+     * Plans the statement with its {@code ?} placeholders as {@code $n} parameters, without bound values.
+     */
+    private JsonNode explain(Connection connection, String sql) throws Exception {
+        Matcher placeholders = PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (placeholders.find()) {
+            placeholders.appendReplacement(numbered, "\\$" + ++index);
+        }
+        placeholders.appendTail(numbered);
+        try (PreparedStatement statement = connection.prepareStatement(
+                        "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numbered);
+                ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private void collectNodeTypes(JsonNode plan, List<String> nodes) {
+        nodes.add(plan.get("Node Type").asText());
+        if (plan.has("Plans")) {
+            for (JsonNode child : plan.get("Plans")) {
+                collectNodeTypes(child, nodes);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        CapturedSql capturedSql() {
+            return new CapturedSql();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspector(CapturedSql capturedSql) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, capturedSql);
+        }
+    }
+
+    static class CapturedSql implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        synchronized List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        synchronized void clear() {
+            statements.clear();
+        }
+    }
+}